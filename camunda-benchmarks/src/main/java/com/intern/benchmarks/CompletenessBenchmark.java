@@ -0,0 +1,74 @@
+package com.intern.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.intern.dto.CompletenessReport;
+import com.intern.entity.LoanApplication;
+import com.intern.service.ApplicationCompletenessChecker;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompletenessBenchmark {
+
+    private ApplicationCompletenessChecker checker;
+
+    private LoanApplication complete;
+
+    private LoanApplication incomplete;
+
+    private LoanApplication[] mixed;
+
+    @Setup
+    public void setup() {
+        checker = new ApplicationCompletenessChecker();
+        Random random = new Random(7);
+        complete = Fixtures.completeApplication(random);
+        incomplete = Fixtures.incompleteApplication(random);
+        mixed = new LoanApplication[1000];
+        for (int i = 0; i < mixed.length; i++) {
+            mixed[i] = i % 4 == 0 ? Fixtures.incompleteApplication(random) : Fixtures.completeApplication(random);
+        }
+    }
+
+    @Benchmark
+    public boolean isCompleteWhenComplete() {
+        return checker.isComplete(complete);
+    }
+
+    @Benchmark
+    public boolean isCompleteWhenIncomplete() {
+        return checker.isComplete(incomplete);
+    }
+
+    @Benchmark
+    public String missingDocumentsWhenComplete() {
+        return checker.getMissingDocuments(complete);
+    }
+
+    @Benchmark
+    public String missingDocumentsWhenIncomplete() {
+        return checker.getMissingDocuments(incomplete);
+    }
+
+    @Benchmark
+    public CompletenessReport sweep() {
+        return checker.sweep(Arrays.stream(mixed));
+    }
+}
@@ -0,0 +1,42 @@
+package com.intern.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import com.intern.entity.LoanApplication;
+
+final class Fixtures {
+
+    private static final String[] EMPLOYMENT = {"FULL_TIME", "PART_TIME", "UNEMPLOYED", "SELF_EMPLOYED"};
+
+    private Fixtures() {
+    }
+
+    static LoanApplication completeApplication(Random random) {
+        LoanApplication application = new LoanApplication();
+        application.setApplicantName("Applicant " + random.nextInt(1_000_000));
+        application.setEmail("applicant" + random.nextInt(1_000_000) + "@example.com");
+        application.setLoanAmount(BigDecimal.valueOf(5_000 + random.nextInt(200_000)));
+        application.setAnnualIncome(BigDecimal.valueOf(20_000 + random.nextInt(180_000)));
+        application.setEmploymentStatus(EMPLOYMENT[random.nextInt(EMPLOYMENT.length)]);
+        application.setCreditScore(300 + random.nextInt(551));
+        return application;
+    }
+
+    static LoanApplication incompleteApplication(Random random) {
+        LoanApplication application = completeApplication(random);
+        application.setEmail("  ");
+        application.setAnnualIncome(null);
+        application.setEmploymentStatus(null);
+        return application;
+    }
+
+    static LoanApplication[] completeApplications(int count, long seed) {
+        Random random = new Random(seed);
+        LoanApplication[] applications = new LoanApplication[count];
+        for (int i = 0; i < count; i++) {
+            applications[i] = completeApplication(random);
+        }
+        return applications;
+    }
+}
@@ -0,0 +1,95 @@
+package com.intern.benchmarks;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+
+import com.intern.CamundaApplication;
+import com.intern.controller.LoanApplicationController;
+import com.intern.entity.LoanApplication;
+
+// Drives applications through the controller and embedded engine using bpmn/loan-benchmark-process.bpmn
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LoanLifecycleBenchmark {
+
+    private ConfigurableApplicationContext context;
+
+    private LoanApplicationController controller;
+
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(CamundaApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.intern=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "loan.disbursement.worker.enabled=false")
+                .run();
+        controller = context.getBean(LoanApplicationController.class);
+        random = new Random(3);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long submit() {
+        return submitApplication();
+    }
+
+    @Benchmark
+    public Long lifecycleToSignature() {
+        Long id = submitApplication();
+        check(controller.reviewApplication(id, Map.of()), "review");
+        check(controller.performCreditCheck(id, Map.of("creditScore", 780)), "credit-check");
+        check(controller.approveLoan(id), "approve-loan");
+        check(controller.prepareLoanAgreement(id), "prepare-agreement");
+        check(controller.signLoanAgreement(id), "sign-agreement");
+        return id;
+    }
+
+    private Long submitApplication() {
+        LoanApplication application = Fixtures.completeApplication(random);
+        application.setCreditScore(780);
+        ResponseEntity<LoanApplication> response = controller.submitApplication(application);
+        check(response, "submit");
+        return response.getBody().getId();
+    }
+
+    private void check(ResponseEntity<?> response, String step) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException(step + " failed with " + response.getStatusCode());
+        }
+    }
+}
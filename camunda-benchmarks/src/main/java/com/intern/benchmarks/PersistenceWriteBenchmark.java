@@ -0,0 +1,146 @@
+package com.intern.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.CamundaApplication;
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.LoanApplication;
+import com.intern.repo.LoanApplicationRepository;
+import com.intern.service.LoanApplicationService;
+
+// Application table write throughput: legacy defaults (echoed SQL, no batching) versus the "prod" profile
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PersistenceWriteBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Param({"legacy", "prod"})
+    public String config;
+
+    private ConfigurableApplicationContext context;
+
+    private LoanApplicationRepository repository;
+
+    private LoanApplicationService service;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Path dataDirectory;
+
+    private Random random;
+
+    private List<Long> ids;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        List<String> properties = new ArrayList<>(List.of(
+                "logging.level.root=WARN",
+                "loan.disbursement.worker.enabled=false"));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CamundaApplication.class)
+                .web(WebApplicationType.NONE);
+
+        if ("legacy".equals(config)) {
+            properties.addAll(List.of(
+                    "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                    "spring.jpa.show-sql=true",
+                    "spring.jpa.properties.hibernate.format_sql=true",
+                    "spring.jpa.properties.hibernate.jdbc.batch_size=1",
+                    "spring.jpa.properties.hibernate.order_inserts=false",
+                    "spring.jpa.properties.hibernate.order_updates=false",
+                    "logging.level.org.hibernate.SQL=DEBUG",
+                    "logging.level.org.hibernate.orm.jdbc.bind=TRACE"));
+        } else {
+            dataDirectory = Files.createTempDirectory("loan-bench");
+            builder.profiles("prod");
+            properties.add("spring.datasource.url=jdbc:h2:file:" + dataDirectory.resolve("loan-db")
+                    + ";DB_CLOSE_ON_EXIT=FALSE");
+        }
+
+        context = builder.properties(properties.toArray(String[]::new)).run();
+        repository = context.getBean(LoanApplicationRepository.class);
+        service = context.getBean(LoanApplicationService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        random = new Random(5);
+
+        // Rows for the update benchmark
+        ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (LoanApplication saved : insertBatch()) {
+                ids.add(saved.getId());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() throws IOException {
+        context.close();
+        if (dataDirectory != null) {
+            try (Stream<Path> files = Files.walk(dataDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<LoanApplication> insert() {
+        return insertBatch();
+    }
+
+    @Benchmark
+    public LoanApplication updateStatus() {
+        Long id = ids.get(next++ % ids.size());
+        return transactionTemplate.execute(status -> {
+            LoanApplication application = repository.findById(id).orElseThrow();
+            application.setStatus(application.getStatus() == ApplicationStatus.UNDER_REVIEW
+                    ? ApplicationStatus.CREDIT_APPROVED
+                    : ApplicationStatus.UNDER_REVIEW);
+            return service.save(application);
+        });
+    }
+
+    private List<LoanApplication> insertBatch() {
+        List<LoanApplication> applications = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            applications.add(Fixtures.completeApplication(random));
+        }
+        return transactionTemplate.execute(status -> repository.saveAll(applications));
+    }
+}
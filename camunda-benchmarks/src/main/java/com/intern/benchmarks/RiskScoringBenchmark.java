@@ -0,0 +1,82 @@
+package com.intern.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.ReflectionUtils;
+
+import com.intern.entity.LoanApplication;
+import com.intern.service.RiskAssessmentService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RiskScoringBenchmark {
+
+    private static final int SIZE = 4096;
+
+    private RiskAssessmentService riskAssessmentService;
+
+    private LoanApplication[] applications;
+
+    private double[] incomeRatio;
+    private int[] creditScore;
+    private byte[] employment;
+    private boolean[] highLoan;
+    private double[] scores;
+
+    private int next;
+
+    @Setup
+    public void setup() throws Exception {
+        riskAssessmentService = new RiskAssessmentService();
+        Field location = ReflectionUtils.findField(RiskAssessmentService.class, "modelLocation");
+        ReflectionUtils.makeAccessible(location);
+        ReflectionUtils.setField(location, riskAssessmentService, new ClassPathResource("risk-model.properties"));
+        riskAssessmentService.init();
+
+        applications = Fixtures.completeApplications(SIZE, 42);
+
+        incomeRatio = new double[SIZE];
+        creditScore = new int[SIZE];
+        employment = new byte[SIZE];
+        highLoan = new boolean[SIZE];
+        scores = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            LoanApplication application = applications[i];
+            incomeRatio[i] = application.getLoanAmount().doubleValue() / application.getAnnualIncome().doubleValue();
+            creditScore[i] = application.getCreditScore();
+            employment[i] = RiskAssessmentService.encodeEmploymentStatus(application.getEmploymentStatus());
+            highLoan[i] = riskAssessmentService.currentModel().isHighLoan(application.getLoanAmount());
+        }
+    }
+
+    @Benchmark
+    public double calculateRiskScore() {
+        LoanApplication application = applications[next++ & (SIZE - 1)];
+        return riskAssessmentService.calculateRiskScore(application);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void scoreColumns(Blackhole blackhole) {
+        riskAssessmentService.currentModel()
+                .scoreColumns(incomeRatio, creditScore, employment, highLoan, scores, 0, SIZE);
+        blackhole.consume(scores);
+    }
+}
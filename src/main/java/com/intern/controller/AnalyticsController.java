@@ -0,0 +1,70 @@
+package com.intern.controller;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.intern.dto.CompletenessReport;
+import com.intern.dto.StageAnalytics;
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.StatusTransitionEvent;
+import com.intern.metrics.StageLatencyAnalytics;
+import com.intern.repo.StatusTransitionEventRepository;
+import com.intern.service.CompletenessSweepService;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private StageLatencyAnalytics stageLatencyAnalytics;
+
+    @Autowired
+    private StatusTransitionEventRepository transitionRepository;
+
+    @Autowired
+    private CompletenessSweepService completenessSweepService;
+
+    @GetMapping("/stages")
+    public ResponseEntity<StageAnalytics> getStageLatencies(
+            @RequestParam(defaultValue = "15") int windowMinutes) {
+        if (windowMinutes < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Duration window = Duration.ofMinutes(windowMinutes);
+        if (window.compareTo(stageLatencyAnalytics.getMaxWindow()) > 0) {
+            window = stageLatencyAnalytics.getMaxWindow();
+        }
+        return new ResponseEntity<>(stageLatencyAnalytics.snapshot(window), HttpStatus.OK);
+    }
+
+    @GetMapping("/applications/{id}/transitions")
+    public ResponseEntity<List<StatusTransitionEvent>> getTransitions(@PathVariable Long id) {
+        return new ResponseEntity<>(transitionRepository.findByApplicationIdOrderByTransitionedAt(id), HttpStatus.OK);
+    }
+
+    @GetMapping("/completeness")
+    public ResponseEntity<CompletenessReport> getLastCompletenessSweep() {
+        CompletenessReport report = completenessSweepService.getLastReport();
+        return report != null
+                ? new ResponseEntity<>(report, HttpStatus.OK)
+                : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    @PostMapping("/completeness/sweep")
+    public ResponseEntity<CompletenessReport> runCompletenessSweep(
+            @RequestParam(required = false) ApplicationStatus status) {
+        return new ResponseEntity<>(completenessSweepService.sweep(status), HttpStatus.OK);
+    }
+}
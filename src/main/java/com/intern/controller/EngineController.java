@@ -0,0 +1,38 @@
+package com.intern.controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.intern.dto.JobExecutorReport;
+import com.intern.metrics.JobExecutorStats;
+import com.intern.service.ProcessVariableMigration;
+
+@RestController
+@RequestMapping("/api/engine")
+@CrossOrigin(origins = "*")
+public class EngineController {
+
+    @Autowired
+    private JobExecutorStats jobExecutorStats;
+
+    @Autowired
+    private ProcessVariableMigration processVariableMigration;
+
+    @GetMapping("/job-executor")
+    public ResponseEntity<JobExecutorReport> getJobExecutorReport() {
+        return new ResponseEntity<>(jobExecutorStats.report(), HttpStatus.OK);
+    }
+
+    @PostMapping("/variables/migrate")
+    public ResponseEntity<Map<String, Long>> migrateProcessVariables() {
+        return new ResponseEntity<>(Map.of("migrated", processVariableMigration.migrate()), HttpStatus.OK);
+    }
+}
@@ -1,7 +1,10 @@
 package com.intern.controller;
 
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -9,7 +12,10 @@ import org.camunda.bpm.engine.task.Task;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,13 +24,30 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.intern.dto.BatchSubmissionResult;
+import com.intern.dto.BulkActionResult;
+import com.intern.dto.LoanApplicationPage;
+import com.intern.dto.StatusSummary;
 import com.intern.entity.ApplicationStatus;
 import com.intern.entity.LoanApplication;
+import com.intern.service.ApplicationCompletenessChecker;
+import com.intern.service.ApplicationStatusCounters;
+import com.intern.service.BulkAction;
+import com.intern.service.BulkActionService;
 import com.intern.service.CamundaProcessService;
+import com.intern.service.ExportFormat;
+import com.intern.service.LoanApplicationExportService;
 import com.intern.service.LoanApplicationService;
+import com.intern.service.LoanEventBroadcaster;
+import com.intern.service.LoanTaskKeys;
+import com.intern.service.LoanVariableCodec;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -40,6 +63,21 @@ public class LoanApplicationController {
     @Autowired
     private CamundaProcessService camundaProcessService;
 
+    @Autowired
+    private LoanApplicationExportService loanApplicationExportService;
+
+    @Autowired
+    private ApplicationCompletenessChecker completenessChecker;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private LoanEventBroadcaster eventBroadcaster;
+
+    @Autowired
+    private BulkActionService bulkActionService;
+
     @PostMapping
     public ResponseEntity<LoanApplication> submitApplication(@Valid @RequestBody LoanApplication application) {
         try {
@@ -51,10 +89,70 @@ public class LoanApplicationController {
         }
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BatchSubmissionResult>> submitBatch(@RequestBody List<LoanApplication> applications) {
+        List<BatchSubmissionResult> results = loanApplicationService.submitApplications(applications);
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BatchSubmissionResult>> submitBatchStream(HttpServletRequest request) {
+        try {
+            List<BatchSubmissionResult> results = loanApplicationService
+                    .submitApplicationStream(request.getInputStream());
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (IOException e) {
+            logger.error("Error reading batch stream", e);
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping
-    public ResponseEntity<List<LoanApplication>> getAllApplications() {
-        List<LoanApplication> applications = loanApplicationService.getAllApplications();
-        return new ResponseEntity<>(applications, HttpStatus.OK);
+    public ResponseEntity<LoanApplicationPage> getAllApplications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            LoanApplicationPage page = loanApplicationService.getApplicationsPage(cursor, size);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) ApplicationStatus status) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        MediaType contentType = exportFormat == ExportFormat.CSV
+                ? new MediaType("text", "csv")
+                : MediaType.APPLICATION_NDJSON;
+        StreamingResponseBody body = out -> loanApplicationExportService.export(exportFormat, status, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"loan-applications." + format.toLowerCase(Locale.ROOT) + "\"")
+                .body(body);
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<StatusSummary> getStatusSummary() {
+        return new ResponseEntity<>(statusCounters.summary(), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@RequestParam(required = false) Long id,
+            @RequestParam(required = false) ApplicationStatus status) {
+        return eventBroadcaster.subscribe(id, status)
+                .map(emitter -> new ResponseEntity<>(emitter, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE));
     }
 
     @GetMapping("/{id}")
@@ -65,9 +163,15 @@ public class LoanApplicationController {
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<LoanApplication>> getApplicationsByStatus(@PathVariable ApplicationStatus status) {
-        List<LoanApplication> applications = loanApplicationService.getApplicationsByStatus(status);
-        return new ResponseEntity<>(applications, HttpStatus.OK);
+    public ResponseEntity<LoanApplicationPage> getApplicationsByStatus(@PathVariable ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            LoanApplicationPage page = loanApplicationService.getApplicationsPage(status, cursor, size);
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
     }
 
     @PutMapping("/{id}/review")
@@ -83,32 +187,22 @@ public class LoanApplicationController {
             String processInstanceId = app.getProcessInstanceId();
 
             // Get current task
-            List<Task> tasks = camundaProcessService.getTasksForProcess(processInstanceId);
-            Task reviewTask = tasks.stream()
-                    .filter(task -> "Activity_138c7bf".equals(task.getTaskDefinitionKey()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (reviewTask != null) {
-                Map<String, Object> variables = new HashMap<>();
-
-                // Check if application is complete
-                boolean isComplete = isApplicationComplete(app);
-                variables.put("applicationComplete", isComplete);
-
-                String missingDocs = null; // Declare outside the if block
-
-                if (!isComplete) {
-                    missingDocs = getMissingDocuments(app);
-                    variables.put("missingDocuments", missingDocs);
-                    app.setMissingDocuments(missingDocs);
-                    app.setStatus(ApplicationStatus.MISSING_INFORMATION);
-                } else {
-                    app.setStatus(ApplicationStatus.UNDER_REVIEW);
-                }
-
-                loanApplicationService.save(app);
-                camundaProcessService.completeUserTask(reviewTask.getId(), variables);
+            String reviewTaskId = camundaProcessService.findActiveTaskId(processInstanceId,
+                    LoanTaskKeys.REVIEW_APPLICATION);
+
+            if (reviewTaskId != null) {
+                // Check completeness against the state being written, re-read on a conflicting update
+                app = loanApplicationService.updateAndCompleteTask(id, LoanTaskKeys.REVIEW_APPLICATION, current -> {
+                    if (completenessChecker.isComplete(current)) {
+                        current.setStatus(ApplicationStatus.UNDER_REVIEW);
+                    } else {
+                        current.setMissingDocuments(completenessChecker.getMissingDocuments(current));
+                        current.setStatus(ApplicationStatus.MISSING_INFORMATION);
+                    }
+                }, saved -> LoanVariableCodec.flag(LoanVariableCodec.APPLICATION_COMPLETE,
+                        saved.getStatus() == ApplicationStatus.UNDER_REVIEW));
+                boolean isComplete = app.getStatus() == ApplicationStatus.UNDER_REVIEW;
+                String missingDocs = app.getMissingDocuments();
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("applicationId", id);
@@ -122,6 +216,11 @@ public class LoanApplicationController {
             } else {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalStateException e) {
+            // The task was completed or removed after the lookup; nothing was written
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error reviewing application", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -141,38 +240,30 @@ public class LoanApplicationController {
             String processInstanceId = app.getProcessInstanceId();
 
             // Get current task
-            List<Task> tasks = camundaProcessService.getTasksForProcess(processInstanceId);
-            Task creditTask = tasks.stream()
-                    .filter(task -> "Activity_1sohyjc".equals(task.getTaskDefinitionKey()))
-                    .findFirst()
-                    .orElse(null);
+            String creditTaskId = camundaProcessService.findActiveTaskId(processInstanceId,
+                    LoanTaskKeys.CREDIT_CHECK);
 
-            if (creditTask != null) {
+            if (creditTaskId != null) {
                 // Simulate credit check
-                Integer creditScore = app.getCreditScore();
-                if (creditScore == null) {
-                    creditScore = (Integer) creditData.getOrDefault("creditScore",
-                            (int) (Math.random() * 550) + 300);
-                    app.setCreditScore(creditScore);
-                }
-
-                boolean creditApproved = creditScore >= 650;
-
-                Map<String, Object> variables = new HashMap<>();
-                variables.put("creditScore", creditScore);
-                variables.put("creditApproved", creditApproved);
-
-                if (creditApproved) {
-                    app.setStatus(ApplicationStatus.CREDIT_APPROVED);
-                } else {
-                    app.setStatus(ApplicationStatus.CREDIT_REJECTED);
-                    String rejectionReason = "Credit score too low: " + creditScore + ". Minimum required: 650";
-                    app.setRejectionReason(rejectionReason);
-                    variables.put("rejectionReason", rejectionReason);
-                }
-
-                loanApplicationService.save(app);
-                camundaProcessService.completeUserTask(creditTask.getId(), variables);
+                app = loanApplicationService.updateAndCompleteTask(id, LoanTaskKeys.CREDIT_CHECK, current -> {
+                    Integer score = current.getCreditScore();
+                    if (score == null) {
+                        score = (Integer) creditData.getOrDefault("creditScore",
+                                (int) (Math.random() * 550) + 300);
+                        current.setCreditScore(score);
+                    }
+
+                    if (score >= 650) {
+                        current.setStatus(ApplicationStatus.CREDIT_APPROVED);
+                    } else {
+                        current.setStatus(ApplicationStatus.CREDIT_REJECTED);
+                        String rejectionReason = "Credit score too low: " + score + ". Minimum required: 650";
+                        current.setRejectionReason(rejectionReason);
+                    }
+                }, saved -> LoanVariableCodec.creditCheck(saved.getCreditScore(),
+                        saved.getStatus() == ApplicationStatus.CREDIT_APPROVED));
+                int creditScore = app.getCreditScore();
+                boolean creditApproved = app.getStatus() == ApplicationStatus.CREDIT_APPROVED;
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("applicationId", id);
@@ -184,6 +275,11 @@ public class LoanApplicationController {
             } else {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalStateException e) {
+            // The task was completed or removed after the lookup; nothing was written
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error performing credit check", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -202,20 +298,13 @@ public class LoanApplicationController {
             String processInstanceId = app.getProcessInstanceId();
 
             // Get current task
-            List<Task> tasks = camundaProcessService.getTasksForProcess(processInstanceId);
-            Task approvalTask = tasks.stream()
-                    .filter(task -> "Activity_0nyafzx".equals(task.getTaskDefinitionKey()))
-                    .findFirst()
-                    .orElse(null);
+            String approvalTaskId = camundaProcessService.findActiveTaskId(processInstanceId,
+                    LoanTaskKeys.APPROVE_LOAN);
 
-            if (approvalTask != null) {
-                app.setStatus(ApplicationStatus.LOAN_APPROVED);
-                loanApplicationService.save(app);
-
-                Map<String, Object> variables = new HashMap<>();
-                variables.put("loanApproved", true);
-
-                camundaProcessService.completeUserTask(approvalTask.getId(), variables);
+            if (approvalTaskId != null) {
+                app = loanApplicationService.updateAndCompleteTask(id, LoanTaskKeys.APPROVE_LOAN,
+                        current -> current.setStatus(ApplicationStatus.LOAN_APPROVED),
+                        saved -> LoanVariableCodec.flag(LoanVariableCodec.LOAN_APPROVED, true));
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("applicationId", id);
@@ -226,6 +315,11 @@ public class LoanApplicationController {
             } else {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalStateException e) {
+            // The task was completed or removed after the lookup; nothing was written
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error approving loan", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -244,20 +338,13 @@ public class LoanApplicationController {
             String processInstanceId = app.getProcessInstanceId();
 
             // Get current task
-            List<Task> tasks = camundaProcessService.getTasksForProcess(processInstanceId);
-            Task prepareTask = tasks.stream()
-                    .filter(task -> "Activity_1m5wqcw".equals(task.getTaskDefinitionKey()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (prepareTask != null) {
-                app.setStatus(ApplicationStatus.AGREEMENT_PREPARED);
-                loanApplicationService.save(app);
-
-                Map<String, Object> variables = new HashMap<>();
-                variables.put("agreementPrepared", true);
+            String prepareTaskId = camundaProcessService.findActiveTaskId(processInstanceId,
+                    LoanTaskKeys.PREPARE_AGREEMENT);
 
-                camundaProcessService.completeUserTask(prepareTask.getId(), variables);
+            if (prepareTaskId != null) {
+                app = loanApplicationService.updateAndCompleteTask(id, LoanTaskKeys.PREPARE_AGREEMENT,
+                        current -> current.setStatus(ApplicationStatus.AGREEMENT_PREPARED),
+                        saved -> LoanVariableCodec.flag(LoanVariableCodec.AGREEMENT_PREPARED, true));
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("applicationId", id);
@@ -268,6 +355,11 @@ public class LoanApplicationController {
             } else {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalStateException e) {
+            // The task was completed or removed after the lookup; nothing was written
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error preparing agreement", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -286,21 +378,14 @@ public class LoanApplicationController {
             String processInstanceId = app.getProcessInstanceId();
 
             // Get current task
-            List<Task> tasks = camundaProcessService.getTasksForProcess(processInstanceId);
-            Task signTask = tasks.stream()
-                    .filter(task -> "Activity_0ga4ksm".equals(task.getTaskDefinitionKey()))
-                    .findFirst()
-                    .orElse(null);
-
-            if (signTask != null) {
-                app.setStatus(ApplicationStatus.AGREEMENT_SIGNED);
-                app.setAgreementSigned(true);
-                loanApplicationService.save(app);
-
-                Map<String, Object> variables = new HashMap<>();
-                variables.put("agreementSigned", true);
+            String signTaskId = camundaProcessService.findActiveTaskId(processInstanceId,
+                    LoanTaskKeys.SIGN_AGREEMENT);
 
-                camundaProcessService.completeUserTask(signTask.getId(), variables);
+            if (signTaskId != null) {
+                app = loanApplicationService.updateAndCompleteTask(id, LoanTaskKeys.SIGN_AGREEMENT, current -> {
+                    current.setStatus(ApplicationStatus.AGREEMENT_SIGNED);
+                    current.setAgreementSigned(true);
+                }, saved -> LoanVariableCodec.flag(LoanVariableCodec.AGREEMENT_SIGNED, true));
 
                 Map<String, Object> response = new HashMap<>();
                 response.put("applicationId", id);
@@ -311,12 +396,35 @@ public class LoanApplicationController {
             } else {
                 return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        } catch (IllegalStateException e) {
+            // The task was completed or removed after the lookup; nothing was written
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error signing agreement", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @PutMapping("/bulk/{action}")
+    public ResponseEntity<List<BulkActionResult>> applyBulkAction(@PathVariable String action,
+            @RequestBody(required = false) List<Long> ids) {
+        BulkAction bulkAction;
+        try {
+            bulkAction = BulkAction.fromPath(action);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<BulkActionResult> results = bulkActionService.apply(bulkAction, ids);
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping("/{id}/tasks")
     public ResponseEntity<List<Task>> getTasksForApplication(@PathVariable Long id) {
         try {
@@ -339,35 +447,4 @@ public class LoanApplicationController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
-
-    private boolean isApplicationComplete(LoanApplication app) {
-        return app.getApplicantName() != null && !app.getApplicantName().trim().isEmpty() &&
-                app.getEmail() != null && !app.getEmail().trim().isEmpty() &&
-                app.getLoanAmount() != null &&
-                app.getAnnualIncome() != null &&
-                app.getEmploymentStatus() != null && !app.getEmploymentStatus().trim().isEmpty();
-    }
-
-    private String getMissingDocuments(LoanApplication app) {
-        StringBuilder missing = new StringBuilder();
-
-        if (app.getApplicantName() == null || app.getApplicantName().trim().isEmpty()) {
-            missing.append("Applicant name, ");
-        }
-        if (app.getEmail() == null || app.getEmail().trim().isEmpty()) {
-            missing.append("Email address, ");
-        }
-        if (app.getLoanAmount() == null) {
-            missing.append("Loan amount, ");
-        }
-        if (app.getAnnualIncome() == null) {
-            missing.append("Annual income, ");
-        }
-        if (app.getEmploymentStatus() == null || app.getEmploymentStatus().trim().isEmpty()) {
-            missing.append("Employment status, ");
-        }
-
-        String result = missing.toString();
-        return result.endsWith(", ") ? result.substring(0, result.length() - 2) : result;
-    }
 }
@@ -0,0 +1,70 @@
+package com.intern.controller;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.intern.dto.RescoreProgress;
+import com.intern.service.RiskAssessmentService;
+import com.intern.service.RiskModel;
+import com.intern.service.RiskRescoreService;
+
+@RestController
+@RequestMapping("/api/risk")
+@CrossOrigin(origins = "*")
+public class RiskController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskController.class);
+
+    @Autowired
+    private RiskRescoreService riskRescoreService;
+
+    @Autowired
+    private RiskAssessmentService riskAssessmentService;
+
+    @PostMapping("/rescore")
+    public ResponseEntity<RescoreProgress> rescore() {
+        Optional<RescoreProgress> started = riskRescoreService.startRescore();
+        if (started.isPresent()) {
+            return new ResponseEntity<>(started.get(), HttpStatus.ACCEPTED);
+        }
+        // Only one re-score runs at a time; report the one in progress
+        return riskRescoreService.getRunningJob()
+                .map(job -> new ResponseEntity<>(job, HttpStatus.CONFLICT))
+                .orElse(new ResponseEntity<>(HttpStatus.CONFLICT));
+    }
+
+    @GetMapping("/rescore/{jobId}")
+    public ResponseEntity<RescoreProgress> getRescoreProgress(@PathVariable String jobId) {
+        return riskRescoreService.getProgress(jobId)
+                .map(progress -> new ResponseEntity<>(progress, HttpStatus.OK))
+                .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping("/model")
+    public ResponseEntity<Map<String, Object>> getModel() {
+        return new ResponseEntity<>(riskAssessmentService.currentModel().describe(), HttpStatus.OK);
+    }
+
+    @PostMapping("/model/reload")
+    public ResponseEntity<Map<String, Object>> reloadModel() {
+        try {
+            RiskModel model = riskAssessmentService.reload();
+            return new ResponseEntity<>(model.describe(), HttpStatus.OK);
+        } catch (Exception e) {
+            logger.error("Error reloading risk model", e);
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+}
@@ -9,8 +9,13 @@ import org.springframework.stereotype.Component;
 
 import com.intern.entity.ApplicationStatus;
 import com.intern.entity.LoanApplication;
+import com.intern.metrics.LoanMetrics;
 import com.intern.service.LoanApplicationService;
+import com.intern.service.LoanVariableCodec;
 import com.intern.service.RiskAssessmentService;
+import com.intern.service.RiskModel;
+
+import io.micrometer.core.instrument.Timer;
 
 @Component("automatedRiskAssessmentDelegate")
 public class AutomatedRiskAssessmentDelegate implements JavaDelegate {
@@ -23,18 +28,19 @@ public class AutomatedRiskAssessmentDelegate implements JavaDelegate {
     @Autowired
     private LoanApplicationService loanApplicationService;
 
+    @Autowired
+    private LoanMetrics loanMetrics;
+
     @Override
     public void execute(DelegateExecution execution) throws Exception {
         logger.info("Starting automated risk assessment for process instance: {}",
                 execution.getProcessInstanceId());
 
+        Timer.Sample sample = loanMetrics.startSample();
+        Exception error = null;
         try {
             // Get loan application ID from process variables
-            Long applicationId = (Long) execution.getVariable("applicationId");
-
-            if (applicationId == null) {
-                throw new RuntimeException("Application ID not found in process variables");
-            }
+            Long applicationId = LoanVariableCodec.applicationId(execution);
 
             // Get loan application data
             LoanApplication application = loanApplicationService.getApplicationById(applicationId)
@@ -44,34 +50,38 @@ public class AutomatedRiskAssessmentDelegate implements JavaDelegate {
             application.setStatus(ApplicationStatus.RISK_ASSESSMENT_IN_PROGRESS);
             loanApplicationService.save(application);
 
-            // Perform risk assessment
-            double riskScore = riskAssessmentService.calculateRiskScore(application);
-            boolean riskAcceptable = riskAssessmentService.isRiskAcceptable(riskScore);
+            // Perform risk assessment against a single model snapshot
+            RiskModel model = riskAssessmentService.currentModel();
+            double riskScore = model.score(application);
+            boolean riskAcceptable = model.isAcceptable(riskScore);
 
             // Update application with risk score
             application.setCreditScore((int) riskScore);
+            application.setRiskScore(riskScore);
+            application.setRiskModelVersion(model.getVersion());
             if (riskAcceptable) {
                 application.setStatus(ApplicationStatus.RISK_APPROVED);
             } else {
                 application.setStatus(ApplicationStatus.RISK_REJECTED);
-                String rejectionReason = riskAssessmentService.getRiskRejectionReason(riskScore);
+                String rejectionReason = model.rejectionReason(riskScore);
                 application.setRejectionReason(rejectionReason);
             }
 
             loanApplicationService.save(application);
 
             // Set process variables for gateway decision
-            execution.setVariable("riskScore", riskScore);
-            execution.setVariable("riskAcceptable", riskAcceptable);
-            execution.setVariable("riskAssessmentComplete", true);
+            execution.setVariables(LoanVariableCodec.riskAssessment(riskScore, riskAcceptable));
 
-            logger.info("Risk assessment completed. Score: {}, Acceptable: {}",
-                    riskScore, riskAcceptable);
+            logger.info("Risk assessment completed. Score: {}, Acceptable: {}, Model: {}",
+                    riskScore, riskAcceptable, model.getVersion());
 
         } catch (Exception e) {
+            error = e;
             logger.error("Error during automated risk assessment: {}", e.getMessage(), e);
             execution.setVariable("riskAssessmentError", e.getMessage());
             throw e;
+        } finally {
+            loanMetrics.recordDelegate(sample, "automatedRiskAssessmentDelegate", error);
         }
     }
 }
\ No newline at end of file
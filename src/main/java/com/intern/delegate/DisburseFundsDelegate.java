@@ -7,70 +7,47 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.intern.entity.ApplicationStatus;
-import com.intern.entity.LoanApplication;
-import com.intern.service.LoanApplicationService;
-import com.intern.service.NotificationService;
-import com.intern.service.PaymentService;
+import com.intern.metrics.LoanMetrics;
+import com.intern.service.DisbursementService;
+import com.intern.service.LoanVariableCodec;
 
+import io.micrometer.core.instrument.Timer;
+
+// In-engine variant; the loan model should prefer the external "disburse-funds" topic served by DisbursementWorker
 @Component("disburseFundsDelegate")
 public class DisburseFundsDelegate implements JavaDelegate {
 
     private static final Logger logger = LoggerFactory.getLogger(DisburseFundsDelegate.class);
 
     @Autowired
-    private PaymentService paymentService;
-
-    @Autowired
-    private NotificationService notificationService;
+    private DisbursementService disbursementService;
 
     @Autowired
-    private LoanApplicationService loanApplicationService;
+    private LoanMetrics loanMetrics;
 
     @Override
     public void execute(DelegateExecution execution) throws Exception {
         logger.info("Starting funds disbursement for process instance: {}",
                 execution.getProcessInstanceId());
 
+        Timer.Sample sample = loanMetrics.startSample();
+        Exception error = null;
         try {
-            Long applicationId = (Long) execution.getVariable("applicationId");
-
-            if (applicationId == null) {
-                throw new RuntimeException("Application ID not found in process variables");
-            }
-
-            LoanApplication application = loanApplicationService.getApplicationById(applicationId)
-                    .orElseThrow(() -> new RuntimeException("Loan application not found: " + applicationId));
-
-            // Verify agreement is signed
-            if (!Boolean.TRUE.equals(application.isAgreementSigned())) {
-                throw new RuntimeException("Cannot disburse funds: loan agreement not signed");
-            }
+            Long applicationId = LoanVariableCodec.applicationId(execution);
 
             // Process payment
-            String transactionId = paymentService.disburseFunds(application);
-
-            // Update application status
-            application.setStatus(ApplicationStatus.FUNDS_DISBURSED);
-            application.setFundsDisbursed(true);
-            loanApplicationService.save(application);
-
-            // Send confirmation notification
-            notificationService.sendDisbursementNotification(application, transactionId);
-
-            // Set process variables
-            execution.setVariable("transactionId", transactionId);
-            execution.setVariable("fundsDisbursed", true);
-            execution.setVariable("disbursementDate", java.time.LocalDateTime.now().toString());
-            execution.setVariable("finalStatus", "FUNDS_DISBURSED");
+            String transactionId = disbursementService.disburse(applicationId);
 
-            logger.info("Funds disbursed successfully for application: {}. Transaction ID: {}",
-                    applicationId, transactionId);
+            // Update application status, notify and set process variables
+            execution.setVariables(disbursementService.recordDisbursement(applicationId, transactionId));
 
         } catch (Exception e) {
+            error = e;
             logger.error("Error during funds disbursement: {}", e.getMessage(), e);
             execution.setVariable("disbursementError", e.getMessage());
             throw e;
+        } finally {
+            loanMetrics.recordDelegate(sample, "disburseFundsDelegate", error);
         }
     }
 }
@@ -9,9 +9,13 @@ import org.springframework.stereotype.Component;
 
 import com.intern.entity.ApplicationStatus;
 import com.intern.entity.LoanApplication;
+import com.intern.metrics.LoanMetrics;
 import com.intern.service.LoanApplicationService;
+import com.intern.service.LoanVariableCodec;
 import com.intern.service.NotificationService;
 
+import io.micrometer.core.instrument.Timer;
+
 @Component("notifyRejectDelegate")
 public class NotifyRejectDelegate implements JavaDelegate {
 
@@ -23,26 +27,24 @@ public class NotifyRejectDelegate implements JavaDelegate {
     @Autowired
     private LoanApplicationService loanApplicationService;
 
+    @Autowired
+    private LoanMetrics loanMetrics;
+
     @Override
     public void execute(DelegateExecution execution) throws Exception {
         logger.info("Starting rejection notification for process instance: {}", 
                    execution.getProcessInstanceId());
-        
+
+        Timer.Sample sample = loanMetrics.startSample();
+        Exception error = null;
         try {
-            Long applicationId = (Long) execution.getVariable("applicationId");
-            
-            if (applicationId == null) {
-                throw new RuntimeException("Application ID not found in process variables");
-            }
+            Long applicationId = LoanVariableCodec.applicationId(execution);
             
             LoanApplication application = loanApplicationService.getApplicationById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Loan application not found: " + applicationId));
             
-            // Get rejection reason from process variables or application
-            String rejectionReason = (String) execution.getVariable("rejectionReason");
-            if (rejectionReason == null) {
-                rejectionReason = application.getRejectionReason();
-            }
+            // Rejection reason is kept on the application, not in process variables
+            String rejectionReason = application.getRejectionReason();
             if (rejectionReason == null) {
                 rejectionReason = "Application did not meet approval criteria";
             }
@@ -56,15 +58,17 @@ public class NotifyRejectDelegate implements JavaDelegate {
             notificationService.sendRejectionNotification(application, rejectionReason);
             
             // Set process variables
-            execution.setVariable("notificationSent", true);
-            execution.setVariable("finalStatus", "REJECTED");
+            execution.setVariables(LoanVariableCodec.flag(LoanVariableCodec.NOTIFICATION_SENT, true));
             
             logger.info("Rejection notification sent for application: {}", applicationId);
             
         } catch (Exception e) {
+            error = e;
             logger.error("Error during rejection notification: {}", e.getMessage(), e);
             execution.setVariable("notificationError", e.getMessage());
             throw e;
+        } finally {
+            loanMetrics.recordDelegate(sample, "notifyRejectDelegate", error);
         }
     }
 
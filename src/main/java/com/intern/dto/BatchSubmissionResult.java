@@ -0,0 +1,17 @@
+package com.intern.dto;
+
+public record BatchSubmissionResult(
+        int index,
+        Long applicationId,
+        String processInstanceId,
+        boolean success,
+        String error) {
+
+    public static BatchSubmissionResult submitted(int index, Long applicationId, String processInstanceId) {
+        return new BatchSubmissionResult(index, applicationId, processInstanceId, true, null);
+    }
+
+    public static BatchSubmissionResult failed(int index, String error) {
+        return new BatchSubmissionResult(index, null, null, false, error);
+    }
+}
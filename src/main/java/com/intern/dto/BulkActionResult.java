@@ -0,0 +1,18 @@
+package com.intern.dto;
+
+import com.intern.entity.ApplicationStatus;
+
+public record BulkActionResult(
+        Long applicationId,
+        boolean success,
+        ApplicationStatus status,
+        String error) {
+
+    public static BulkActionResult completed(Long applicationId, ApplicationStatus status) {
+        return new BulkActionResult(applicationId, true, status, null);
+    }
+
+    public static BulkActionResult failed(Long applicationId, String error) {
+        return new BulkActionResult(applicationId, false, null, error);
+    }
+}
@@ -0,0 +1,10 @@
+package com.intern.dto;
+
+import java.util.Map;
+
+public record CompletenessReport(
+        long checked,
+        long complete,
+        long incomplete,
+        Map<String, Long> missingByField) {
+}
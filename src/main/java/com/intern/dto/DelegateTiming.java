@@ -0,0 +1,10 @@
+package com.intern.dto;
+
+public record DelegateTiming(
+        String delegate,
+        String outcome,
+        long count,
+        double meanMillis,
+        double maxMillis,
+        double totalMillis) {
+}
@@ -0,0 +1,14 @@
+package com.intern.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record JobExecutorReport(
+        Map<String, Long> engineMetrics,
+        long executableJobs,
+        int poolSize,
+        int activeThreads,
+        int queuedJobs,
+        int queueRemainingCapacity,
+        List<DelegateTiming> delegates) {
+}
@@ -0,0 +1,6 @@
+package com.intern.dto;
+
+import java.util.List;
+
+public record LoanApplicationPage(List<LoanApplicationSummary> items, String nextCursor) {
+}
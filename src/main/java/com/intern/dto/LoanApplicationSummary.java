@@ -0,0 +1,15 @@
+package com.intern.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.intern.entity.ApplicationStatus;
+
+public record LoanApplicationSummary(
+        Long id,
+        String applicantName,
+        BigDecimal loanAmount,
+        ApplicationStatus status,
+        LocalDateTime submissionDate,
+        LocalDateTime lastUpdated) {
+}
@@ -0,0 +1,34 @@
+package com.intern.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.intern.entity.ApplicationStatus;
+
+// Pushed to /api/loan-applications/events subscribers; task fields are null for status events and vice versa
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LoanEvent(
+        String type,
+        Long applicationId,
+        ApplicationStatus status,
+        ApplicationStatus previousStatus,
+        String processInstanceId,
+        String taskId,
+        String taskDefinitionKey,
+        LocalDateTime at) {
+
+    public static final String STATUS_CHANGED = "status-changed";
+    public static final String TASK_CREATED = "task-created";
+    public static final String TASK_COMPLETED = "task-completed";
+
+    public static LoanEvent statusChanged(Long applicationId, ApplicationStatus status,
+            ApplicationStatus previousStatus, LocalDateTime at) {
+        return new LoanEvent(STATUS_CHANGED, applicationId, status, previousStatus, null, null, null, at);
+    }
+
+    public static LoanEvent task(String type, Long applicationId, String processInstanceId, String taskId,
+            String taskDefinitionKey) {
+        return new LoanEvent(type, applicationId, null, null, processInstanceId, taskId, taskDefinitionKey,
+                LocalDateTime.now());
+    }
+}
@@ -0,0 +1,15 @@
+package com.intern.dto;
+
+import java.time.LocalDateTime;
+
+public record RescoreProgress(
+        String jobId,
+        String state,
+        String modelVersion,
+        long total,
+        long processed,
+        double percentComplete,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error) {
+}
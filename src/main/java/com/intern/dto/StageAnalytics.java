@@ -0,0 +1,12 @@
+package com.intern.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record StageAnalytics(
+        LocalDateTime windowStart,
+        LocalDateTime windowEnd,
+        long windowSeconds,
+        List<StageLatency> stages,
+        StageLatency lifecycle) {
+}
@@ -0,0 +1,12 @@
+package com.intern.dto;
+
+public record StageLatency(
+        String stage,
+        long entered,
+        long exited,
+        double exitsPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis) {
+}
@@ -0,0 +1,10 @@
+package com.intern.dto;
+
+import com.intern.entity.ApplicationStatus;
+
+public interface StatusCount {
+
+    ApplicationStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,12 @@
+package com.intern.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.intern.entity.ApplicationStatus;
+
+public record StatusSummary(
+        Map<ApplicationStatus, Long> counts,
+        long total,
+        LocalDateTime reconciledAt) {
+}
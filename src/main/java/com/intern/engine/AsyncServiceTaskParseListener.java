@@ -0,0 +1,38 @@
+package com.intern.engine;
+
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.bpmn.parser.AbstractBpmnParseListener;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.impl.pvm.process.ActivityImpl;
+import org.camunda.bpm.engine.impl.pvm.process.ScopeImpl;
+import org.camunda.bpm.engine.impl.util.xml.Element;
+
+// Parses service and send tasks of the configured processes as exclusive asyncBefore jobs
+public class AsyncServiceTaskParseListener extends AbstractBpmnParseListener {
+
+    private final Set<String> processKeys;
+
+    public AsyncServiceTaskParseListener(Set<String> processKeys) {
+        this.processKeys = processKeys;
+    }
+
+    @Override
+    public void parseServiceTask(Element serviceTaskElement, ScopeImpl scope, ActivityImpl activity) {
+        makeAsync(activity);
+    }
+
+    @Override
+    public void parseSendTask(Element sendTaskElement, ScopeImpl scope, ActivityImpl activity) {
+        makeAsync(activity);
+    }
+
+    private void makeAsync(ActivityImpl activity) {
+        ProcessDefinitionEntity definition = (ProcessDefinitionEntity) activity.getProcessDefinition();
+        if (activity.isAsyncBefore() || !processKeys.contains(definition.getKey())) {
+            return;
+        }
+        // Exclusive keeps jobs of one instance sequential, avoiding optimistic locking failures on the instance
+        activity.setAsyncBefore(true, true);
+    }
+}
@@ -0,0 +1,187 @@
+package com.intern.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.history.handler.DbHistoryEventHandler;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Queues history events once their transaction commits and writes them in order, in batches, on one thread
+public class BufferedHistoryEventHandler implements HistoryEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedHistoryEventHandler.class);
+
+    private static final Object PENDING_KEY = new Object();
+
+    private static final int WRITE_ATTEMPTS = 5;
+
+    private static final long INITIAL_RETRY_BACKOFF_MILLIS = 200;
+
+    private final DbHistoryEventHandler delegate = new DbHistoryEventHandler();
+
+    private final BlockingQueue<HistoryEvent> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalMillis;
+
+    private volatile CommandExecutor commandExecutor;
+
+    private volatile Thread flusher;
+
+    private volatile boolean running;
+
+    public BufferedHistoryEventHandler(int queueCapacity, int batchSize, long flushIntervalMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public void start(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+        running = true;
+        flusher = Thread.ofPlatform().name("history-flusher").daemon(true).start(this::runFlusher);
+    }
+
+    public void stop() {
+        // The flusher drains what is queued and then exits
+        running = false;
+        Thread thread = flusher;
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<HistoryEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            try {
+                write(remaining);
+            } catch (Exception e) {
+                logger.error("Lost {} buffered history events on shutdown", remaining.size(), e);
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void handleEvent(HistoryEvent historyEvent) {
+        if (commandExecutor == null) {
+            // Engine still bootstrapping; write in the caller's command as the default handler would
+            delegate.handleEvent(historyEvent);
+            return;
+        }
+        pendingEvents().add(historyEvent);
+    }
+
+    @Override
+    public void handleEvents(List<HistoryEvent> historyEvents) {
+        for (HistoryEvent historyEvent : historyEvents) {
+            handleEvent(historyEvent);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<HistoryEvent> pendingEvents() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Buffered history requires a Spring-managed engine transaction");
+        }
+        List<HistoryEvent> pending = (List<HistoryEvent>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (pending == null) {
+            List<HistoryEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                    // Rolled back work leaves no history, exactly as with synchronous writes
+                    if (status == STATUS_COMMITTED) {
+                        enqueue(events);
+                    }
+                }
+            });
+            pending = events;
+        }
+        return pending;
+    }
+
+    private void enqueue(List<HistoryEvent> events) {
+        Thread thread = flusher;
+        if (thread == null || !thread.isAlive()) {
+            // Flusher gone (shutdown): nothing older is pending, so writing here keeps the order
+            write(events);
+            return;
+        }
+        try {
+            // Blocking on a full buffer slows committing threads down instead of writing out of order
+            for (HistoryEvent event : events) {
+                queue.put(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while buffering history; some events of a committed transaction are lost");
+        }
+    }
+
+    private void runFlusher() {
+        List<HistoryEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                HistoryEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Later batches wait behind a failing one, so inserts still land before their updates
+    private void writeWithRetry(List<HistoryEvent> batch) throws InterruptedException {
+        long backoff = INITIAL_RETRY_BACKOFF_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                write(batch);
+                return;
+            } catch (Exception e) {
+                if (attempt >= WRITE_ATTEMPTS) {
+                    logger.error("Dropping {} history events after {} failed writes", batch.size(), attempt, e);
+                    return;
+                }
+                logger.warn("Could not write {} history events (attempt {} of {}), retrying in {} ms: {}",
+                        batch.size(), attempt, WRITE_ATTEMPTS, backoff, e.getMessage());
+                Thread.sleep(backoff);
+                backoff *= 2;
+            }
+        }
+    }
+
+    private void write(List<HistoryEvent> events) {
+        List<HistoryEvent> copy = List.copyOf(events);
+        commandExecutor.execute(commandContext -> {
+            delegate.handleEvents(copy);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.intern.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.cfg.AbstractProcessEnginePlugin;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+@ConditionalOnProperty(name = "loan.history.buffered.enabled", havingValue = "true")
+public class BufferedHistoryPlugin extends AbstractProcessEnginePlugin {
+
+    private static final Logger logger = LoggerFactory.getLogger(BufferedHistoryPlugin.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loan.history.buffered.queue-capacity:20000}")
+    private int queueCapacity;
+
+    @Value("${loan.history.buffered.batch-size:500}")
+    private int batchSize;
+
+    @Value("${loan.history.buffered.flush-interval-ms:250}")
+    private long flushIntervalMillis;
+
+    private BufferedHistoryEventHandler handler;
+
+    @Override
+    public void preInit(ProcessEngineConfigurationImpl configuration) {
+        handler = new BufferedHistoryEventHandler(queueCapacity, batchSize, flushIntervalMillis);
+        List<HistoryEventHandler> handlers = configuration.getCustomHistoryEventHandlers();
+        if (handlers == null) {
+            handlers = new ArrayList<>();
+            configuration.setCustomHistoryEventHandlers(handlers);
+        }
+        handlers.add(handler);
+        // The buffered handler writes through its own DbHistoryEventHandler; the default one would write twice
+        configuration.setEnableDefaultDbHistoryEventHandler(false);
+    }
+
+    @Override
+    public void postInit(ProcessEngineConfigurationImpl configuration) {
+        // Removal times are set by UPDATEs on the instance's history rows when it ends; rows still buffered at that
+        // point would be inserted without one and never cleaned up. End-time-based cleanup does not depend on them.
+        if (ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_REMOVAL_TIME_BASED
+                .equals(configuration.getHistoryCleanupStrategy())) {
+            throw new ProcessEngineException("loan.history.buffered.enabled requires historyCleanupStrategy "
+                    + ProcessEngineConfiguration.HISTORY_CLEANUP_STRATEGY_END_TIME_BASED);
+        }
+    }
+
+    @Override
+    public void postProcessEngineBuild(ProcessEngine processEngine) {
+        ProcessEngineConfigurationImpl configuration =
+                (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+        handler.start(configuration.getCommandExecutorTxRequiresNew());
+        Gauge.builder("camunda.history.buffer.depth", handler, BufferedHistoryEventHandler::getQueueDepth)
+                .description("History events committed but not yet written")
+                .register(meterRegistry);
+        logger.info("History events are buffered and written in batches of up to {}", batchSize);
+    }
+
+    // Runs before any bean is destroyed, so the engine can still take the final flush
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        if (handler != null) {
+            handler.stop();
+        }
+    }
+}
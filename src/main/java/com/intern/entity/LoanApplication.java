@@ -3,13 +3,28 @@ package com.intern.entity;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -18,11 +33,22 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "loan_applications")
+// UPDATE statements carry only the changed columns (typically status and timestamps), not the whole row
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = LoanApplication.CACHE_REGION)
+@Table(name = "loan_applications", indexes = {
+        @Index(name = "idx_loan_app_status_updated", columnList = "status, last_updated, id"),
+        @Index(name = "idx_loan_app_process_instance", columnList = "process_instance_id"),
+        @Index(name = "idx_loan_app_updated", columnList = "last_updated, id")
+})
 public class LoanApplication {
 
+    public static final String CACHE_REGION = "loan-applications";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_application_seq")
+    @SequenceGenerator(name = "loan_application_seq", sequenceName = "loan_application_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Applicant name is required")
@@ -45,9 +71,14 @@ public class LoanApplication {
 
     private Integer creditScore;
 
+    private Double riskScore;
+
+    private String riskModelVersion;
+
     @Enumerated(EnumType.STRING)
     private ApplicationStatus status;
 
+    @Column(name = "process_instance_id")
     private String processInstanceId;
 
     private String missingDocuments;
@@ -56,10 +87,24 @@ public class LoanApplication {
 
     private boolean agreementSigned = false;
 
+    private boolean fundsDisbursed = false;
+
     private LocalDateTime submissionDate;
 
+    @Column(name = "last_updated")
     private LocalDateTime lastUpdated;
 
+    private LocalDateTime statusChangedAt;
+
+    // Optimistic lock: a write based on a stale read fails instead of silently overwriting the newer state
+    @Version
+    private Long version;
+
+    // Status as last read from or written to the database, to detect transitions on save
+    @Transient
+    @JsonIgnore
+    private ApplicationStatus persistedStatus;
+
     // Constructor
     public LoanApplication() {
         this.submissionDate = LocalDateTime.now();
@@ -67,8 +112,10 @@ public class LoanApplication {
         this.status = ApplicationStatus.SUBMITTED;
     }
 
-    public void setFundsDisbursed(boolean b) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'setFundsDisbursed'");
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberPersistedStatus() {
+        this.persistedStatus = this.status;
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.intern.entity;
+
+public enum NotificationStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
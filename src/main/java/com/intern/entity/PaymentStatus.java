@@ -0,0 +1,7 @@
+package com.intern.entity;
+
+public enum PaymentStatus {
+    PENDING,
+    SETTLED,
+    FAILED
+}
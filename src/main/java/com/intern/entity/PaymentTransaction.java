@@ -0,0 +1,59 @@
+package com.intern.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "payment_ledger", indexes = {
+        @Index(name = "idx_payment_ledger_key", columnList = "idempotency_key", unique = true),
+        @Index(name = "idx_payment_ledger_application", columnList = "application_id")
+})
+public class PaymentTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_ledger_seq")
+    @SequenceGenerator(name = "payment_ledger_seq", sequenceName = "payment_ledger_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    private String processInstanceId;
+
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus status;
+
+    private String transactionId;
+
+    private String batchId;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime settledAt;
+
+    @Column(length = 1000)
+    private String failureReason;
+
+    public PaymentTransaction() {
+        this.createdAt = LocalDateTime.now();
+        this.status = PaymentStatus.PENDING;
+    }
+}
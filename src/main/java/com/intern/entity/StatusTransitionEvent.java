@@ -0,0 +1,46 @@
+package com.intern.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+// Append-only: rows are inserted by StatusTransitionWriter and never updated
+@Data
+@Entity
+@Table(name = "status_transition_events", indexes = {
+        @Index(name = "idx_status_transition_app", columnList = "application_id, transitioned_at"),
+        @Index(name = "idx_status_transition_time", columnList = "transitioned_at")
+})
+public class StatusTransitionEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_transition_seq")
+    @SequenceGenerator(name = "status_transition_seq", sequenceName = "status_transition_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Enumerated(EnumType.STRING)
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private LocalDateTime transitionedAt;
+
+    // Time spent in fromStatus; null for the initial SUBMITTED transition
+    private Long dwellMillis;
+}
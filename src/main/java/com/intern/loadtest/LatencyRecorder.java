@@ -0,0 +1,64 @@
+package com.intern.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Named HdrHistograms (nanosecond resolution, 3 significant digits) plus error counters
+class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String name, long nanos) {
+        histograms.computeIfAbsent(name, key -> new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3))
+                .recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+    }
+
+    void error(String name) {
+        errors.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    void reset() {
+        histograms.values().forEach(Histogram::reset);
+        errors.clear();
+    }
+
+    void print(PrintStream out, String title, double elapsedSeconds) {
+        out.println();
+        out.println(title);
+        out.printf("%-40s %9s %9s %9s %9s %9s %9s %9s %7s%n",
+                "name", "count", "ops/s", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+        Set<String> names = new TreeSet<>(histograms.keySet());
+        names.addAll(errors.keySet());
+        for (String name : names) {
+            Histogram recorded = histograms.get(name);
+            Histogram histogram = recorded != null ? recorded.copy() : new Histogram(3);
+            LongAdder errorCount = errors.get(name);
+            out.printf("%-40s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    name,
+                    histogram.getTotalCount(),
+                    elapsedSeconds > 0 ? histogram.getTotalCount() / elapsedSeconds : 0.0,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()),
+                    errorCount != null ? errorCount.sum() : 0);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,226 @@
+package com.intern.loadtest;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+// Open-model load generator for full loan lifecycles; enable with --spring.profiles.active=loadgen
+@Component
+@Profile("loadgen")
+public class LoadGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String[] EMPLOYMENT = {"FULL_TIME", "PART_TIME", "SELF_EMPLOYED"};
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Value("${loadgen.arrival-rate:50}")
+    private double arrivalRate;
+
+    @Value("${loadgen.max-users:200}")
+    private int maxUsers;
+
+    @Value("${loadgen.warmup-seconds:10}")
+    private int warmupSeconds;
+
+    @Value("${loadgen.duration-seconds:60}")
+    private int durationSeconds;
+
+    @Value("${loadgen.disbursement-timeout-ms:30000}")
+    private long disbursementTimeoutMillis;
+
+    @Value("${loadgen.disbursement-poll-ms:100}")
+    private long disbursementPollMillis;
+
+    @Value("${loadgen.exit-on-finish:true}")
+    private boolean exitOnFinish;
+
+    private final LatencyRecorder endpoints = new LatencyRecorder();
+
+    private final LatencyRecorder steps = new LatencyRecorder();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private RestClient client;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
+        client = restClientBuilder.baseUrl("http://localhost:" + port + "/api/loan-applications").build();
+
+        logger.warn("Load generator: {} lifecycles/s, max {} concurrent users, {}s warm-up, {}s measurement",
+                arrivalRate, maxUsers, warmupSeconds, durationSeconds);
+
+        Semaphore users = new Semaphore(maxUsers);
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / arrivalRate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        boolean measuring = false;
+
+        for (long next = start; next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && next >= measureFrom) {
+                measuring = true;
+                resetStatistics();
+            }
+
+            long intendedStart = next;
+            if (users.tryAcquire()) {
+                Thread.ofVirtual().name("loadgen-user").start(() -> {
+                    try {
+                        runLifecycle(intendedStart);
+                    } finally {
+                        users.release();
+                    }
+                });
+            } else {
+                // All virtual users busy: the node is not keeping up with the arrival rate
+                dropped.increment();
+            }
+        }
+
+        // Let in-flight lifecycles finish before reporting
+        users.tryAcquire(maxUsers, disbursementTimeoutMillis * 2, TimeUnit.MILLISECONDS);
+        report((System.nanoTime() - measureFrom) / 1e9);
+
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context, () -> failed.sum() == 0 ? 0 : 1));
+        }
+    }
+
+    private void runLifecycle(long intendedStart) {
+        try {
+            Map<?, ?> submitted = call("1 submit", "POST /api/loan-applications",
+                    () -> client.post()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(newApplication())
+                            .retrieve()
+                            .body(Map.class));
+            long id = ((Number) submitted.get("id")).longValue();
+
+            action("2 review", "review", id, Map.of());
+            action("3 credit-check", "credit-check", id, Map.of("creditScore", 780));
+            action("4 approve-loan", "approve-loan", id, null);
+            action("5 prepare-agreement", "prepare-agreement", id, null);
+            action("6 sign-agreement", "sign-agreement", id, null);
+            awaitDisbursement(id);
+
+            // Measured from the scheduled arrival, so queueing delay is not hidden (coordinated omission)
+            steps.record("lifecycle", System.nanoTime() - intendedStart);
+            completed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            logger.debug("Lifecycle failed: {}", e.getMessage());
+        }
+    }
+
+    private void action(String step, String action, long id, Map<String, Object> body) {
+        call(step, "PUT /api/loan-applications/{id}/" + action, () -> {
+            RestClient.RequestBodySpec request = client.put()
+                    .uri("/{id}/{action}", id, action)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (body != null) {
+                request.body(body);
+            }
+            return request.retrieve().toBodilessEntity();
+        });
+    }
+
+    private void awaitDisbursement(long id) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(disbursementTimeoutMillis);
+        while (System.nanoTime() < deadline) {
+            Map<?, ?> application = call(null, "GET /api/loan-applications/{id}",
+                    () -> client.get().uri("/{id}", id).retrieve().body(Map.class));
+            if ("FUNDS_DISBURSED".equals(application.get("status"))) {
+                steps.record("7 disburse", System.nanoTime() - start);
+                return;
+            }
+            Thread.sleep(disbursementPollMillis);
+        }
+        steps.error("7 disburse");
+        throw new IllegalStateException("Application " + id + " not disbursed within timeout");
+    }
+
+    private <T> T call(String step, String endpoint, Supplier<T> request) {
+        long start = System.nanoTime();
+        try {
+            T result = request.get();
+            long elapsed = System.nanoTime() - start;
+            endpoints.record(endpoint, elapsed);
+            if (step != null) {
+                steps.record(step, elapsed);
+            }
+            return result;
+        } catch (RuntimeException e) {
+            endpoints.error(endpoint);
+            if (step != null) {
+                steps.error(step);
+            }
+            throw e;
+        }
+    }
+
+    private Map<String, Object> newApplication() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(1_000_000);
+        return Map.of(
+                "applicantName", "Load Test " + n,
+                "email", "loadtest" + n + "@example.com",
+                "loanAmount", BigDecimal.valueOf(5_000 + random.nextInt(90_000)),
+                "annualIncome", BigDecimal.valueOf(60_000 + random.nextInt(140_000)),
+                "employmentStatus", EMPLOYMENT[random.nextInt(EMPLOYMENT.length)],
+                "creditScore", 780);
+    }
+
+    private void resetStatistics() {
+        endpoints.reset();
+        steps.reset();
+        completed.reset();
+        failed.reset();
+        dropped.reset();
+    }
+
+    private void report(double elapsedSeconds) {
+        System.out.println();
+        System.out.printf("Lifecycles completed: %d (%.1f/s), failed: %d, dropped arrivals: %d, window: %.1fs%n",
+                completed.sum(), completed.sum() / elapsedSeconds, failed.sum(), dropped.sum(), elapsedSeconds);
+        steps.print(System.out, "Per BPMN step", elapsedSeconds);
+        endpoints.print(System.out, "Per endpoint", elapsedSeconds);
+    }
+}
@@ -0,0 +1,91 @@
+package com.intern.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.management.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.intern.dto.DelegateTiming;
+import com.intern.dto.JobExecutorReport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class JobExecutorStats {
+
+    private static final String[] ENGINE_METRICS = {
+            Metrics.JOB_ACQUISITION_ATTEMPT,
+            Metrics.JOB_ACQUIRED_SUCCESS,
+            Metrics.JOB_ACQUIRED_FAILURE,
+            Metrics.JOB_EXECUTION_REJECTED,
+            Metrics.JOB_SUCCESSFUL,
+            Metrics.JOB_FAILED,
+            Metrics.JOB_LOCKED_EXCLUSIVE
+    };
+
+    @Autowired
+    private ManagementService managementService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Absent when job execution is disabled
+    @Autowired
+    @Qualifier("camundaTaskExecutor")
+    private ObjectProvider<TaskExecutor> camundaTaskExecutor;
+
+    public JobExecutorReport report() {
+        // The engine buffers metrics in memory and reports them periodically; report now so the totals are current
+        try {
+            managementService.reportDbMetricsNow();
+        } catch (ProcessEngineException e) {
+            // Database metrics reporting is disabled; the query returns what was last reported
+        }
+        Map<String, Long> engineMetrics = new LinkedHashMap<>();
+        for (String name : ENGINE_METRICS) {
+            engineMetrics.put(name, managementService.createMetricsQuery().name(name).sum());
+        }
+
+        long executableJobs = managementService.createJobQuery().executable().count();
+
+        int poolSize = 0;
+        int activeThreads = 0;
+        int queued = 0;
+        int queueRemaining = 0;
+        if (camundaTaskExecutor.getIfAvailable() instanceof ThreadPoolTaskExecutor pool
+                && pool.getThreadPoolExecutor() != null) {
+            ThreadPoolExecutor executor = pool.getThreadPoolExecutor();
+            poolSize = executor.getPoolSize();
+            activeThreads = executor.getActiveCount();
+            queued = executor.getQueue().size();
+            queueRemaining = executor.getQueue().remainingCapacity();
+        }
+
+        List<DelegateTiming> delegates = new ArrayList<>();
+        for (Timer timer : meterRegistry.find("loan.delegate.execution").timers()) {
+            delegates.add(new DelegateTiming(
+                    timer.getId().getTag("delegate"),
+                    timer.getId().getTag("outcome"),
+                    timer.count(),
+                    timer.mean(TimeUnit.MILLISECONDS),
+                    timer.max(TimeUnit.MILLISECONDS),
+                    timer.totalTime(TimeUnit.MILLISECONDS)));
+        }
+
+        return new JobExecutorReport(engineMetrics, executableJobs, poolSize, activeThreads, queued, queueRemaining,
+                delegates);
+    }
+}
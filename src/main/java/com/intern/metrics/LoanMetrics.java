@@ -0,0 +1,137 @@
+package com.intern.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.intern.entity.ApplicationStatus;
+import com.intern.service.ApplicationStatusCounters;
+import com.intern.service.LoanTaskKeys;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class LoanMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanMetrics.class);
+
+    private static final String[] USER_TASKS = {
+            LoanTaskKeys.REVIEW_APPLICATION,
+            LoanTaskKeys.CREDIT_CHECK,
+            LoanTaskKeys.APPROVE_LOAN,
+            LoanTaskKeys.PREPARE_AGREEMENT,
+            LoanTaskKeys.SIGN_AGREEMENT
+    };
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationStatusCounters statusCounters;
+
+    @Autowired
+    private ManagementService managementService;
+
+    @Autowired
+    private TaskService taskService;
+
+    // Absent when job execution is disabled
+    @Autowired
+    @Qualifier("camundaTaskExecutor")
+    private ObjectProvider<TaskExecutor> camundaTaskExecutor;
+
+    // Gauges read these holders; the engine is only queried by the scheduled refresh, never by a scrape
+    private final Map<String, AtomicLong> activeTasksByKey = new HashMap<>();
+
+    private final AtomicLong activeTasks = new AtomicLong();
+
+    private final AtomicLong executableJobs = new AtomicLong();
+
+    @PostConstruct
+    public void registerGauges() {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            Gauge.builder("loan.applications", statusCounters, counters -> counters.get(status))
+                    .description("Loan applications per status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+
+        for (String taskKey : USER_TASKS) {
+            AtomicLong count = new AtomicLong();
+            activeTasksByKey.put(taskKey, count);
+            Gauge.builder("camunda.tasks.active", count, AtomicLong::get)
+                    .description("Active user tasks per task definition key")
+                    .tag("task", taskKey)
+                    .register(meterRegistry);
+        }
+        Gauge.builder("camunda.tasks.active", activeTasks, AtomicLong::get)
+                .description("Active user tasks per task definition key")
+                .tag("task", "all")
+                .register(meterRegistry);
+
+        Gauge.builder("camunda.jobs.executable", executableJobs, AtomicLong::get)
+                .description("Jobs due for execution and not yet acquired")
+                .register(meterRegistry);
+
+        if (camundaTaskExecutor.getIfAvailable() instanceof ThreadPoolTaskExecutor pool) {
+            Gauge.builder("camunda.job-executor.queue.depth", pool, p -> queueDepth(p.getThreadPoolExecutor()))
+                    .description("Acquired jobs waiting for a job executor thread")
+                    .register(meterRegistry);
+            Gauge.builder("camunda.job-executor.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("Job executor threads currently executing jobs")
+                    .register(meterRegistry);
+        }
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void recordDelegate(Timer.Sample sample, String delegate, Exception error) {
+        sample.stop(Timer.builder("loan.delegate.execution")
+                .description("Execution time of BPMN service task delegates")
+                .tag("delegate", delegate)
+                .tag("outcome", error == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        if (error != null) {
+            meterRegistry.counter("loan.delegate.errors",
+                    "delegate", delegate,
+                    "exception", error.getClass().getSimpleName())
+                    .increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${loan.metrics.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            for (Map.Entry<String, AtomicLong> entry : activeTasksByKey.entrySet()) {
+                entry.getValue().set(taskService.createTaskQuery().taskDefinitionKey(entry.getKey()).active().count());
+            }
+            activeTasks.set(taskService.createTaskQuery().active().count());
+            executableJobs.set(managementService.createJobQuery().executable().count());
+        } catch (Exception e) {
+            logger.warn("Could not refresh loan metrics: {}", e.getMessage());
+        }
+    }
+
+    private static double queueDepth(ThreadPoolExecutor executor) {
+        return executor != null ? executor.getQueue().size() : 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.intern.metrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.intern.dto.StageAnalytics;
+import com.intern.dto.StageLatency;
+import com.intern.entity.ApplicationStatus;
+import com.intern.service.StatusTransition;
+
+import jakarta.annotation.PostConstruct;
+
+// Per-stage dwell-time histograms in a ring of time buckets, so queries cost the same however old the data
+@Component
+public class StageLatencyAnalytics {
+
+    private static final String LIFECYCLE = "SUBMITTED_TO_FUNDS_DISBURSED";
+
+    @Value("${loan.analytics.bucket-seconds:60}")
+    private long bucketSeconds;
+
+    @Value("${loan.analytics.buckets:60}")
+    private int bucketCount;
+
+    private final Map<ApplicationStatus, SlidingWindow> stages = new EnumMap<>(ApplicationStatus.class);
+
+    private SlidingWindow lifecycle;
+
+    @PostConstruct
+    public void init() {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            stages.put(status, new SlidingWindow(bucketCount));
+        }
+        lifecycle = new SlidingWindow(bucketCount);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(StatusTransition transition) {
+        long bucket = currentBucket();
+        stages.get(transition.to()).entered(bucket);
+        if (transition.from() != null && transition.dwellMillis() != null) {
+            stages.get(transition.from()).exited(bucket, transition.dwellMillis());
+        }
+        if (transition.to() == ApplicationStatus.FUNDS_DISBURSED && transition.submittedAt() != null) {
+            lifecycle.exited(bucket, Duration.between(transition.submittedAt(), transition.at()).toMillis());
+        }
+    }
+
+    public Duration getMaxWindow() {
+        return Duration.ofSeconds(bucketSeconds * bucketCount);
+    }
+
+    public StageAnalytics snapshot(Duration window) {
+        int buckets = (int) Math.max(1, Math.min(bucketCount, window.toSeconds() / bucketSeconds));
+        long current = currentBucket();
+        long windowSeconds = buckets * bucketSeconds;
+
+        List<StageLatency> stageLatencies = new ArrayList<>(stages.size());
+        stages.forEach((status, stage) -> {
+            StageLatency latency = stage.summarize(status.name(), current, buckets, windowSeconds);
+            if (latency.entered() > 0 || latency.exited() > 0) {
+                stageLatencies.add(latency);
+            }
+        });
+
+        LocalDateTime end = LocalDateTime.now();
+        return new StageAnalytics(end.minusSeconds(windowSeconds), end, windowSeconds, stageLatencies,
+                lifecycle.summarize(LIFECYCLE, current, buckets, windowSeconds));
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / (bucketSeconds * 1000);
+    }
+
+    private static final class SlidingWindow {
+        private final Histogram[] dwell;
+        private final long[] entered;
+        private final long[] bucketIds;
+
+        SlidingWindow(int size) {
+            dwell = new Histogram[size];
+            entered = new long[size];
+            bucketIds = new long[size];
+            for (int i = 0; i < size; i++) {
+                dwell[i] = new Histogram(3);
+                bucketIds[i] = -1;
+            }
+        }
+
+        synchronized void entered(long bucket) {
+            entered[slot(bucket)]++;
+        }
+
+        synchronized void exited(long bucket, long dwellMillis) {
+            dwell[slot(bucket)].recordValue(Math.max(0, dwellMillis));
+        }
+
+        synchronized StageLatency summarize(String name, long current, int buckets, long windowSeconds) {
+            Histogram merged = new Histogram(3);
+            long enteredTotal = 0;
+            for (int i = 0; i < bucketIds.length; i++) {
+                if (bucketIds[i] > current - buckets && bucketIds[i] <= current) {
+                    merged.add(dwell[i]);
+                    enteredTotal += entered[i];
+                }
+            }
+            long exited = merged.getTotalCount();
+            return new StageLatency(name, enteredTotal, exited,
+                    windowSeconds > 0 ? (double) exited / windowSeconds : 0.0,
+                    exited > 0 ? merged.getValueAtPercentile(50) : 0,
+                    exited > 0 ? merged.getValueAtPercentile(95) : 0,
+                    exited > 0 ? merged.getValueAtPercentile(99) : 0,
+                    exited > 0 ? merged.getMaxValue() : 0);
+        }
+
+        // Recycles the slot when the ring wraps into a new time bucket
+        private int slot(long bucket) {
+            int slot = (int) (bucket % bucketIds.length);
+            if (bucketIds[slot] != bucket) {
+                bucketIds[slot] = bucket;
+                dwell[slot].reset();
+                entered[slot] = 0;
+            }
+            return slot;
+        }
+    }
+}
@@ -1,19 +1,85 @@
 package com.intern.repo;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.intern.dto.LoanApplicationSummary;
+import com.intern.dto.StatusCount;
 import com.intern.entity.ApplicationStatus;
 import com.intern.entity.LoanApplication;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<LoanApplication, Long> {
 
+    String SUMMARY_SELECT = "select new com.intern.dto.LoanApplicationSummary("
+            + "a.id, a.applicantName, a.loanAmount, a.status, a.submissionDate, a.lastUpdated) "
+            + "from LoanApplication a ";
+
+    String KEYSET_AFTER = "(a.lastUpdated < :lastUpdated or (a.lastUpdated = :lastUpdated and a.id < :id)) ";
+
+    String KEYSET_ORDER = "order by a.lastUpdated desc, a.id desc";
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    String QUERY_CACHE_REGION = "loan-application-queries";
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<LoanApplication> findByStatus(ApplicationStatus status);
 
+    @Query("select a.status as status, count(a) as count from LoanApplication a group by a.status")
+    List<StatusCount> countByStatus();
+
     List<LoanApplication> findByApplicantNameContainingIgnoreCase(String applicantName);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     List<LoanApplication> findByProcessInstanceId(String processInstanceId);
-}
\ No newline at end of file
+
+    @Query(SUMMARY_SELECT + KEYSET_ORDER)
+    List<LoanApplicationSummary> findFirstPage(Limit limit);
+
+    @Query(SUMMARY_SELECT + "where " + KEYSET_AFTER + KEYSET_ORDER)
+    List<LoanApplicationSummary> findPageAfter(@Param("lastUpdated") LocalDateTime lastUpdated,
+            @Param("id") Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "where a.status = :status " + KEYSET_ORDER)
+    List<LoanApplicationSummary> findFirstPageByStatus(@Param("status") ApplicationStatus status, Limit limit);
+
+    @Query(SUMMARY_SELECT + "where a.status = :status and " + KEYSET_AFTER + KEYSET_ORDER)
+    List<LoanApplicationSummary> findPageByStatusAfter(@Param("status") ApplicationStatus status,
+            @Param("lastUpdated") LocalDateTime lastUpdated, @Param("id") Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select a from LoanApplication a order by a.id")
+    Stream<LoanApplication> streamAll();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select a from LoanApplication a where a.status = :status order by a.id")
+    Stream<LoanApplication> streamByStatus(@Param("status") ApplicationStatus status);
+}
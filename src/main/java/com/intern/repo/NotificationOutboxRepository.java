@@ -0,0 +1,18 @@
+package com.intern.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.intern.entity.NotificationOutbox;
+import com.intern.entity.NotificationStatus;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    List<NotificationOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+            NotificationStatus status, LocalDateTime now, Limit limit);
+}
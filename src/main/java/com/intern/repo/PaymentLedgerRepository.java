@@ -0,0 +1,20 @@
+package com.intern.repo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.intern.entity.PaymentTransaction;
+
+@Repository
+public interface PaymentLedgerRepository extends JpaRepository<PaymentTransaction, Long> {
+
+    Optional<PaymentTransaction> findByIdempotencyKey(String idempotencyKey);
+
+    List<PaymentTransaction> findByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    List<PaymentTransaction> findByApplicationId(Long applicationId);
+}
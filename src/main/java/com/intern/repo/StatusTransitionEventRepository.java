@@ -0,0 +1,14 @@
+package com.intern.repo;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.intern.entity.StatusTransitionEvent;
+
+@Repository
+public interface StatusTransitionEventRepository extends JpaRepository<StatusTransitionEvent, Long> {
+
+    List<StatusTransitionEvent> findByApplicationIdOrderByTransitionedAt(Long applicationId);
+}
@@ -0,0 +1,60 @@
+package com.intern.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.camunda.bpm.engine.delegate.DelegateTask;
+import org.camunda.bpm.engine.delegate.TaskListener;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ActiveTaskCache {
+
+    // processInstanceId -> (taskDefinitionKey -> taskId)
+    private final ConcurrentMap<String, Map<String, String>> tasksByProcess = new ConcurrentHashMap<>();
+
+    public String get(String processInstanceId, String taskDefinitionKey) {
+        Map<String, String> tasks = tasksByProcess.get(processInstanceId);
+        return tasks != null ? tasks.get(taskDefinitionKey) : null;
+    }
+
+    public void put(String processInstanceId, String taskDefinitionKey, String taskId) {
+        tasksByProcess.computeIfAbsent(processInstanceId, pid -> new ConcurrentHashMap<>())
+                .put(taskDefinitionKey, taskId);
+    }
+
+    public void remove(String processInstanceId, String taskDefinitionKey, String taskId) {
+        tasksByProcess.computeIfPresent(processInstanceId, (pid, tasks) -> {
+            tasks.remove(taskDefinitionKey, taskId);
+            return tasks.isEmpty() ? null : tasks;
+        });
+    }
+
+    public int size() {
+        return tasksByProcess.size();
+    }
+
+    @EventListener
+    public void onTaskEvent(DelegateTask task) {
+        String processInstanceId = task.getProcessInstanceId();
+        if (processInstanceId == null) {
+            return;
+        }
+
+        String taskDefinitionKey = task.getTaskDefinitionKey();
+        String taskId = task.getId();
+
+        switch (task.getEventName()) {
+            // Only publish new tasks once the engine transaction has committed
+            case TaskListener.EVENTNAME_CREATE ->
+                TransactionHooks.afterCommit(() -> put(processInstanceId, taskDefinitionKey, taskId));
+            // Drop once the outcome is visible: a miss before commit still finds the task and would re-cache it
+            case TaskListener.EVENTNAME_COMPLETE, TaskListener.EVENTNAME_DELETE ->
+                TransactionHooks.afterCompletion(() -> remove(processInstanceId, taskDefinitionKey, taskId));
+            default -> {
+            }
+        }
+    }
+}
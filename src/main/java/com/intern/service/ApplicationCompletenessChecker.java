@@ -0,0 +1,124 @@
+package com.intern.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.intern.dto.CompletenessReport;
+import com.intern.entity.LoanApplication;
+
+@Component
+public class ApplicationCompletenessChecker {
+
+    // Required fields in message order; requirement i owns bit i of the missing mask. Adding a field is one entry.
+    private static final List<Requirement> REQUIREMENTS = List.of(
+            text("Applicant name", LoanApplication::getApplicantName),
+            text("Email address", LoanApplication::getEmail),
+            value("Loan amount", LoanApplication::getLoanAmount),
+            value("Annual income", LoanApplication::getAnnualIncome),
+            text("Employment status", LoanApplication::getEmploymentStatus));
+
+    private static final Requirement[] CHECKS = REQUIREMENTS.toArray(Requirement[]::new);
+
+    // Every possible answer is built once: index by missing mask
+    private static final String[] MESSAGES = new String[1 << CHECKS.length];
+
+    private static final List<Set<String>> MISSING_FIELDS = new ArrayList<>(1 << CHECKS.length);
+
+    static {
+        for (int mask = 0; mask < MESSAGES.length; mask++) {
+            Set<String> fields = new LinkedHashSet<>();
+            for (int bit = 0; bit < CHECKS.length; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    fields.add(CHECKS[bit].label());
+                }
+            }
+            MESSAGES[mask] = String.join(", ", fields).intern();
+            MISSING_FIELDS.add(Collections.unmodifiableSet(fields));
+        }
+    }
+
+    public boolean isComplete(LoanApplication app) {
+        for (Requirement check : CHECKS) {
+            if (!check.present().test(app)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int missingMask(LoanApplication app) {
+        int mask = 0;
+        for (int bit = 0; bit < CHECKS.length; bit++) {
+            if (!CHECKS[bit].present().test(app)) {
+                mask |= 1 << bit;
+            }
+        }
+        return mask;
+    }
+
+    public Set<String> getMissingFields(LoanApplication app) {
+        return MISSING_FIELDS.get(missingMask(app));
+    }
+
+    public String getMissingDocuments(LoanApplication app) {
+        return MESSAGES[missingMask(app)];
+    }
+
+    // Consumes the stream; counts per mask first and expands to per-field totals once at the end
+    public CompletenessReport sweep(Stream<LoanApplication> applications) {
+        long[] countsByMask = new long[MESSAGES.length];
+        applications.sequential().forEach(app -> countsByMask[missingMask(app)]++);
+
+        long checked = 0;
+        long[] missingByBit = new long[CHECKS.length];
+        for (int mask = 0; mask < countsByMask.length; mask++) {
+            long count = countsByMask[mask];
+            checked += count;
+            for (int bit = 0; bit < CHECKS.length; bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    missingByBit[bit] += count;
+                }
+            }
+        }
+
+        Map<String, Long> missingByField = new LinkedHashMap<>();
+        for (int bit = 0; bit < CHECKS.length; bit++) {
+            missingByField.put(CHECKS[bit].label(), missingByBit[bit]);
+        }
+        return new CompletenessReport(checked, countsByMask[0], checked - countsByMask[0], missingByField);
+    }
+
+    private static Requirement text(String label, Function<LoanApplication, String> field) {
+        return new Requirement(label, app -> hasText(field.apply(app)));
+    }
+
+    private static Requirement value(String label, Function<LoanApplication, ?> field) {
+        return new Requirement(label, app -> field.apply(app) != null);
+    }
+
+    // Same rule as trim().isEmpty(), without allocating the trimmed copy
+    private static boolean hasText(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Requirement(String label, Predicate<LoanApplication> present) {
+    }
+}
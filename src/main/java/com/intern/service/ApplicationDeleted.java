@@ -0,0 +1,7 @@
+package com.intern.service;
+
+import com.intern.entity.ApplicationStatus;
+
+// Published by LoanApplicationService.deleteApplication with the status the application had
+public record ApplicationDeleted(Long applicationId, ApplicationStatus status) {
+}
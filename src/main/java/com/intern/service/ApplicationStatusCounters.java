@@ -0,0 +1,101 @@
+package com.intern.service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.intern.dto.StatusCount;
+import com.intern.dto.StatusSummary;
+import com.intern.entity.ApplicationStatus;
+import com.intern.repo.LoanApplicationRepository;
+
+// Applications per status from committed transitions, periodically reconciled against a GROUP BY
+@Component
+public class ApplicationStatusCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationStatusCounters.class);
+
+    @Autowired
+    private LoanApplicationRepository repository;
+
+    private final Map<ApplicationStatus, LongAdder> counters = new EnumMap<>(ApplicationStatus.class);
+
+    private volatile LocalDateTime reconciledAt;
+
+    public ApplicationStatusCounters() {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(StatusTransition transition) {
+        if (transition.from() != null) {
+            counters.get(transition.from()).decrement();
+        }
+        counters.get(transition.to()).increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(ApplicationDeleted deleted) {
+        if (deleted.status() != null) {
+            counters.get(deleted.status()).decrement();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${loan.status-counters.reconcile-interval-ms:300000}",
+            fixedDelayString = "${loan.status-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            Map<ApplicationStatus, Long> actual = new EnumMap<>(ApplicationStatus.class);
+            for (StatusCount row : repository.countByStatus()) {
+                actual.put(row.getStatus(), row.getCount());
+            }
+
+            // A transition committed while the query ran can skew this pass; the next one corrects it
+            for (Map.Entry<ApplicationStatus, LongAdder> entry : counters.entrySet()) {
+                long expected = actual.getOrDefault(entry.getKey(), 0L);
+                long drift = expected - entry.getValue().sum();
+                if (drift != 0) {
+                    entry.getValue().add(drift);
+                    if (reconciledAt != null) {
+                        logger.debug("Status counter {} drifted by {}", entry.getKey(), drift);
+                    }
+                }
+            }
+            reconciledAt = LocalDateTime.now();
+        } catch (Exception e) {
+            logger.warn("Could not reconcile status counters: {}", e.getMessage());
+        }
+    }
+
+    public long get(ApplicationStatus status) {
+        return counters.get(status).sum();
+    }
+
+    public StatusSummary summary() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        long total = 0;
+        for (Map.Entry<ApplicationStatus, LongAdder> entry : counters.entrySet()) {
+            long count = entry.getValue().sum();
+            counts.put(entry.getKey(), count);
+            total += count;
+        }
+        return new StatusSummary(counts, total, reconciledAt);
+    }
+}
@@ -0,0 +1,44 @@
+package com.intern.service;
+
+import java.util.Locale;
+
+import com.intern.entity.ApplicationStatus;
+
+// User task steps reviewers can complete for many applications at once
+public enum BulkAction {
+
+    APPROVE_LOAN(LoanTaskKeys.APPROVE_LOAN, ApplicationStatus.LOAN_APPROVED, LoanVariableCodec.LOAN_APPROVED),
+    PREPARE_AGREEMENT(LoanTaskKeys.PREPARE_AGREEMENT, ApplicationStatus.AGREEMENT_PREPARED,
+            LoanVariableCodec.AGREEMENT_PREPARED),
+    SIGN_AGREEMENT(LoanTaskKeys.SIGN_AGREEMENT, ApplicationStatus.AGREEMENT_SIGNED,
+            LoanVariableCodec.AGREEMENT_SIGNED);
+
+    private final String taskDefinitionKey;
+
+    private final ApplicationStatus status;
+
+    private final String variable;
+
+    BulkAction(String taskDefinitionKey, ApplicationStatus status, String variable) {
+        this.taskDefinitionKey = taskDefinitionKey;
+        this.status = status;
+        this.variable = variable;
+    }
+
+    public String getTaskDefinitionKey() {
+        return taskDefinitionKey;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public String getVariable() {
+        return variable;
+    }
+
+    // Path segments use the single-item endpoint names, e.g. "approve-loan"
+    public static BulkAction fromPath(String path) {
+        return valueOf(path.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,140 @@
+package com.intern.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.dto.BulkActionResult;
+import com.intern.entity.LoanApplication;
+import com.intern.repo.LoanApplicationRepository;
+
+@Service
+public class BulkActionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkActionService.class);
+
+    @Autowired
+    private LoanApplicationRepository repository;
+
+    @Autowired
+    private LoanApplicationService loanApplicationService;
+
+    @Autowired
+    private CamundaProcessService camundaProcessService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${loan.bulk.max-ids:1000}")
+    private int maxIds;
+
+    @Value("${loan.bulk.group-size:50}")
+    private int groupSize;
+
+    public List<BulkActionResult> apply(BulkAction action, List<Long> ids) {
+        if (ids == null) {
+            throw new IllegalArgumentException("Expected a list of application ids");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        uniqueIds.remove(null);
+        if (uniqueIds.isEmpty() || uniqueIds.size() > maxIds) {
+            throw new IllegalArgumentException("Expected between 1 and " + maxIds + " application ids");
+        }
+
+        // One query for the entities and one for their tasks, however many ids were sent
+        Map<Long, LoanApplication> applications = new HashMap<>();
+        for (LoanApplication application : repository.findAllById(uniqueIds)) {
+            applications.put(application.getId(), application);
+        }
+        List<String> processInstanceIds = applications.values().stream()
+                .map(LoanApplication::getProcessInstanceId)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, String> taskIds = camundaProcessService.findActiveTaskIds(processInstanceIds,
+                action.getTaskDefinitionKey());
+
+        Map<Long, BulkActionResult> results = new HashMap<>();
+        List<LoanApplication> ready = new ArrayList<>(uniqueIds.size());
+        for (Long id : uniqueIds) {
+            LoanApplication application = applications.get(id);
+            if (application == null) {
+                results.put(id, BulkActionResult.failed(id, "Application not found"));
+            } else if (taskIds.get(application.getProcessInstanceId()) == null) {
+                results.put(id, BulkActionResult.failed(id, "No active task for this action"));
+            } else {
+                ready.add(application);
+            }
+        }
+
+        for (int from = 0; from < ready.size(); from += groupSize) {
+            List<LoanApplication> group = ready.subList(from, Math.min(from + groupSize, ready.size()));
+            for (BulkActionResult result : applyGroup(action, group, taskIds)) {
+                results.put(result.applicationId(), result);
+            }
+        }
+
+        List<BulkActionResult> ordered = new ArrayList<>(uniqueIds.size());
+        for (Long id : uniqueIds) {
+            ordered.add(results.get(id));
+        }
+        return ordered;
+    }
+
+    private List<BulkActionResult> applyGroup(BulkAction action, List<LoanApplication> group,
+            Map<String, String> taskIds) {
+        try {
+            // Detached entities are merged from the second-level cache the initial load just populated
+            return transactionTemplate.execute(status -> {
+                List<BulkActionResult> completed = new ArrayList<>(group.size());
+                for (LoanApplication application : group) {
+                    completed.add(complete(action, application, taskIds.get(application.getProcessInstanceId())));
+                }
+                return completed;
+            });
+        } catch (Exception e) {
+            // One failure rolls back the whole group, so retry its items one by one against fresh state
+            logger.warn("Bulk {} failed for a group of {}, retrying individually: {}",
+                    action, group.size(), e.getMessage());
+            List<BulkActionResult> results = new ArrayList<>(group.size());
+            for (LoanApplication application : group) {
+                results.add(applySingle(action, application.getId(),
+                        taskIds.get(application.getProcessInstanceId())));
+            }
+            return results;
+        }
+    }
+
+    private BulkActionResult applySingle(BulkAction action, Long id, String taskId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                LoanApplication application = repository.findById(id)
+                        .orElseThrow(() -> new RuntimeException("Application not found"));
+                return complete(action, application, taskId);
+            });
+        } catch (Exception e) {
+            logger.error("Bulk {} failed for application {}", action, id, e);
+            return BulkActionResult.failed(id, e.getMessage());
+        }
+    }
+
+    private BulkActionResult complete(BulkAction action, LoanApplication application, String taskId) {
+        application.setStatus(action.getStatus());
+        if (action == BulkAction.SIGN_AGREEMENT) {
+            application.setAgreementSigned(true);
+        }
+        LoanApplication saved = loanApplicationService.save(application);
+        camundaProcessService.completeUserTask(taskId, LoanVariableCodec.flag(action.getVariable(), true));
+        return BulkActionResult.completed(saved.getId(), saved.getStatus());
+    }
+}
@@ -1,11 +1,14 @@
 package com.intern.service;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.RuntimeService;
 import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.exception.NullValueException;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.task.Task;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,21 +26,90 @@ public class CamundaProcessService {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private ActiveTaskCache activeTaskCache;
+
     public String startProcess(String processKey, Map<String, Object> variables) {
         ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(processKey, variables);
         return processInstance.getProcessInstanceId();
     }
 
+    public String startProcess(String processKey, String businessKey, Map<String, Object> variables) {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(processKey, businessKey,
+                variables);
+        return processInstance.getProcessInstanceId();
+    }
+
     public List<Task> getTasksForProcess(String processInstanceId) {
         return taskService.createTaskQuery()
                 .processInstanceId(processInstanceId)
                 .list();
     }
 
+    public Task findActiveTask(String processInstanceId, String taskDefinitionKey) {
+        return taskService.createTaskQuery()
+                .processInstanceId(processInstanceId)
+                .taskDefinitionKey(taskDefinitionKey)
+                .active()
+                .listPage(0, 1)
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String findActiveTaskId(String processInstanceId, String taskDefinitionKey) {
+        String taskId = activeTaskCache.get(processInstanceId, taskDefinitionKey);
+        if (taskId != null) {
+            return taskId;
+        }
+
+        // Cache miss (e.g. after a restart): fall back to the targeted query and remember the result
+        Task task = findActiveTask(processInstanceId, taskDefinitionKey);
+        if (task == null) {
+            return null;
+        }
+        activeTaskCache.put(processInstanceId, taskDefinitionKey, task.getId());
+        return task.getId();
+    }
+
+    // processInstanceId -> taskId of the active task, resolved with one query for all instances
+    public Map<String, String> findActiveTaskIds(Collection<String> processInstanceIds, String taskDefinitionKey) {
+        Map<String, String> taskIds = new HashMap<>();
+        if (processInstanceIds.isEmpty()) {
+            return taskIds;
+        }
+        List<Task> tasks = taskService.createTaskQuery()
+                .processInstanceIdIn(processInstanceIds.toArray(String[]::new))
+                .taskDefinitionKey(taskDefinitionKey)
+                .active()
+                .list();
+        for (Task task : tasks) {
+            taskIds.putIfAbsent(task.getProcessInstanceId(), task.getId());
+            activeTaskCache.put(task.getProcessInstanceId(), taskDefinitionKey, task.getId());
+        }
+        return taskIds;
+    }
+
     public void completeUserTask(String taskId, Map<String, Object> variables) {
         taskService.complete(taskId, variables);
     }
 
+    // A cached id can outlive its task (completed on another node, or re-cached by a racing miss); such an id is
+    // evicted before the failure propagates, so the caller's retry resolves the task afresh
+    public void completeActiveTask(String processInstanceId, String taskDefinitionKey, Map<String, Object> variables) {
+        String taskId = findActiveTaskId(processInstanceId, taskDefinitionKey);
+        if (taskId == null) {
+            throw new IllegalStateException(
+                    "No active " + taskDefinitionKey + " task for process instance " + processInstanceId);
+        }
+        try {
+            taskService.complete(taskId, variables);
+        } catch (NullValueException e) {
+            activeTaskCache.remove(processInstanceId, taskDefinitionKey, taskId);
+            throw e;
+        }
+    }
+
     public List<Task> getTasksForUser(String assignee) {
         return taskService.createTaskQuery()
                 .taskAssignee(assignee)
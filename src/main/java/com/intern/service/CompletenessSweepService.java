@@ -0,0 +1,63 @@
+package com.intern.service;
+
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.dto.CompletenessReport;
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.LoanApplication;
+import com.intern.repo.LoanApplicationRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class CompletenessSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompletenessSweepService.class);
+
+    @Autowired
+    private LoanApplicationRepository repository;
+
+    @Autowired
+    private ApplicationCompletenessChecker completenessChecker;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private volatile CompletenessReport lastReport;
+
+    // Disabled unless loan.completeness.sweep.cron is set
+    @Scheduled(cron = "${loan.completeness.sweep.cron:-}")
+    public void nightlySweep() {
+        sweep(null);
+    }
+
+    public CompletenessReport sweep(ApplicationStatus status) {
+        CompletenessReport report = transactionTemplate.execute(tx -> {
+            try (Stream<LoanApplication> rows = status == null
+                    ? repository.streamAll()
+                    : repository.streamByStatus(status)) {
+                // Detach as we go so the persistence context stays empty
+                return completenessChecker.sweep(rows.peek(entityManager::detach));
+            }
+        });
+        logger.info("Completeness sweep: {} checked, {} incomplete", report.checked(), report.incomplete());
+        if (status == null) {
+            lastReport = report;
+        }
+        return report;
+    }
+
+    public CompletenessReport getLastReport() {
+        return lastReport;
+    }
+}
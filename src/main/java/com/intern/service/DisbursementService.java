@@ -0,0 +1,54 @@
+package com.intern.service;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.LoanApplication;
+
+@Service
+public class DisbursementService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisbursementService.class);
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private LoanApplicationService loanApplicationService;
+
+    public String disburse(Long applicationId) {
+        LoanApplication application = loanApplicationService.getApplicationById(applicationId)
+                .orElseThrow(() -> new RuntimeException("Loan application not found: " + applicationId));
+
+        // Verify agreement is signed
+        if (!application.isAgreementSigned()) {
+            throw new RuntimeException("Cannot disburse funds: loan agreement not signed");
+        }
+
+        return paymentService.disburseFunds(application);
+    }
+
+    public Map<String, Object> recordDisbursement(Long applicationId, String transactionId) {
+        // Update application status
+        LoanApplication application = loanApplicationService.updateWithRetry(applicationId, app -> {
+            app.setStatus(ApplicationStatus.FUNDS_DISBURSED);
+            app.setFundsDisbursed(true);
+        });
+
+        // Send confirmation notification
+        notificationService.sendDisbursementNotification(application, transactionId);
+
+        logger.info("Funds disbursed successfully for application: {}. Transaction ID: {}",
+                applicationId, transactionId);
+
+        return LoanVariableCodec.disbursement(transactionId);
+    }
+}
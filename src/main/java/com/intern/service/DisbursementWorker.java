@@ -0,0 +1,149 @@
+package com.intern.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "loan.disbursement.worker.enabled", havingValue = "true")
+public class DisbursementWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisbursementWorker.class);
+
+    private final String workerId = "disbursement-worker-" + UUID.randomUUID();
+
+    @Autowired
+    private ExternalTaskService externalTaskService;
+
+    @Autowired
+    private DisbursementService disbursementService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${loan.disbursement.worker.topic:disburse-funds}")
+    private String topic;
+
+    @Value("${loan.disbursement.worker.max-tasks:50}")
+    private int maxTasks;
+
+    @Value("${loan.disbursement.worker.lock-duration-ms:60000}")
+    private long lockDuration;
+
+    @Value("${loan.disbursement.worker.retries:3}")
+    private int retries;
+
+    @Value("${loan.disbursement.worker.retry-timeout-ms:30000}")
+    private long retryTimeout;
+
+    private record Disbursed(LockedExternalTask task, Long applicationId, String transactionId) {
+    }
+
+    @Scheduled(fixedDelayString = "${loan.disbursement.worker.poll-interval-ms:1000}")
+    public void poll() {
+        List<LockedExternalTask> tasks;
+        do {
+            tasks = externalTaskService.fetchAndLock(maxTasks, workerId)
+                    .topic(topic, lockDuration)
+                    .variables(LoanVariableCodec.APPLICATION_ID)
+                    .execute();
+            if (!tasks.isEmpty()) {
+                completeAll(disburseAll(tasks));
+            }
+        } while (tasks.size() == maxTasks);
+    }
+
+    private List<Disbursed> disburseAll(List<LockedExternalTask> tasks) {
+        List<Disbursed> disbursed = new ArrayList<>(tasks.size());
+
+        // Payment calls block on the rail, so give each one its own virtual thread
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> payments = new ArrayList<>(tasks.size());
+            for (LockedExternalTask task : tasks) {
+                payments.add(executor.submit(() -> disbursementService.disburse(applicationId(task))));
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                LockedExternalTask task = tasks.get(i);
+                try {
+                    disbursed.add(new Disbursed(task, applicationId(task), payments.get(i).get()));
+                } catch (ExecutionException e) {
+                    handleFailure(task, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    handleFailure(task, e);
+                }
+            }
+        }
+        return disbursed;
+    }
+
+    private void completeAll(List<Disbursed> disbursed) {
+        if (disbursed.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> disbursed.forEach(this::complete));
+            logger.info("Completed {} disbursement tasks", disbursed.size());
+        } catch (Exception e) {
+            // One failed completion rolls back the batch, so complete the rest one by one
+            logger.warn("Bulk completion of {} disbursement tasks failed, completing individually: {}",
+                    disbursed.size(), e.getMessage());
+            for (Disbursed item : disbursed) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> complete(item));
+                } catch (Exception itemError) {
+                    handleFailure(item.task(), itemError);
+                }
+            }
+        }
+    }
+
+    private void complete(Disbursed item) {
+        Map<String, Object> variables = disbursementService.recordDisbursement(item.applicationId(),
+                item.transactionId());
+        externalTaskService.complete(item.task().getId(), workerId, variables);
+    }
+
+    private void handleFailure(LockedExternalTask task, Throwable error) {
+        int remaining = (task.getRetries() != null ? task.getRetries() : retries) - 1;
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        logger.error("Disbursement failed for external task {} ({} retries left): {}",
+                task.getId(), remaining, message);
+        try {
+            externalTaskService.handleFailure(task.getId(), workerId, message, error.toString(),
+                    Math.max(remaining, 0), retryTimeout);
+        } catch (Exception e) {
+            logger.error("Could not report failure for external task {}", task.getId(), e);
+        }
+    }
+
+    private Long applicationId(LockedExternalTask task) {
+        Long applicationId = LoanVariableCodec.decodeApplicationId(
+                task.getVariables().get(LoanVariableCodec.APPLICATION_ID));
+        if (applicationId == null) {
+            applicationId = LoanVariableCodec.decodeApplicationId(task.getBusinessKey());
+        }
+        if (applicationId != null) {
+            return applicationId;
+        }
+        throw new RuntimeException("Application ID not found for external task " + task.getId());
+    }
+}
@@ -0,0 +1,6 @@
+package com.intern.service;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
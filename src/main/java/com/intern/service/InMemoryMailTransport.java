@@ -0,0 +1,40 @@
+package com.intern.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryMailTransport implements MailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryMailTransport.class);
+
+    private final ConcurrentLinkedDeque<MailMessage> outbox = new ConcurrentLinkedDeque<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Value("${loan.notification.in-memory.capacity:1000}")
+    private int capacity;
+
+    @Override
+    public void send(List<MailMessage> batch) {
+        for (MailMessage message : batch) {
+            outbox.addLast(message);
+            if (size.incrementAndGet() > capacity && outbox.pollFirst() != null) {
+                size.decrementAndGet();
+            }
+            logger.info("Email sent to: {} | Subject: {}", message.recipient(), message.subject());
+            logger.debug("Email content: {}", message.body());
+        }
+    }
+
+    public List<MailMessage> getSentMessages() {
+        return new ArrayList<>(outbox);
+    }
+}
@@ -0,0 +1,148 @@
+package com.intern.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.LoanApplication;
+import com.intern.repo.LoanApplicationRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class LoanApplicationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanApplicationExportService.class);
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    // Same fields, in the same order, as the NDJSON export
+    private static final String CSV_HEADER = "id,applicantName,email,loanAmount,annualIncome,employmentStatus,"
+            + "creditScore,riskScore,riskModelVersion,status,processInstanceId,missingDocuments,rejectionReason,"
+            + "agreementSigned,fundsDisbursed,submissionDate,lastUpdated,statusChangedAt,version";
+
+    @Autowired
+    private LoanApplicationRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, ApplicationStatus status, OutputStream out) throws IOException {
+        try (Stream<LoanApplication> rows = status == null
+                ? repository.streamAll()
+                : repository.streamByStatus(status)) {
+            long count = format == ExportFormat.CSV
+                    ? writeCsv(rows.iterator(), out)
+                    : writeNdjson(rows.iterator(), out);
+            logger.info("Exported {} loan applications as {}", count, format);
+            return count;
+        }
+    }
+
+    private long writeNdjson(Iterator<LoanApplication> rows, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+
+        long count = 0;
+        while (rows.hasNext()) {
+            LoanApplication application = rows.next();
+            writer.writeValue(generator, application);
+            // Keep the persistence context empty so memory stays flat
+            entityManager.detach(application);
+
+            count++;
+            if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        if (count > 0) {
+            generator.writeRaw('\n');
+        }
+        generator.close();
+        return count;
+    }
+
+    private long writeCsv(Iterator<LoanApplication> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        writer.flush();
+
+        long count = 0;
+        while (rows.hasNext()) {
+            LoanApplication application = rows.next();
+            writeCsvRow(writer, application);
+            entityManager.detach(application);
+
+            count++;
+            if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, LoanApplication app) throws IOException {
+        writer.write(String.valueOf(app.getId()));
+        writeCsvField(writer, app.getApplicantName());
+        writeCsvField(writer, app.getEmail());
+        writeCsvField(writer, app.getLoanAmount());
+        writeCsvField(writer, app.getAnnualIncome());
+        writeCsvField(writer, app.getEmploymentStatus());
+        writeCsvField(writer, app.getCreditScore());
+        writeCsvField(writer, app.getRiskScore());
+        writeCsvField(writer, app.getRiskModelVersion());
+        writeCsvField(writer, app.getStatus());
+        writeCsvField(writer, app.getProcessInstanceId());
+        writeCsvField(writer, app.getMissingDocuments());
+        writeCsvField(writer, app.getRejectionReason());
+        writeCsvField(writer, app.isAgreementSigned());
+        writeCsvField(writer, app.isFundsDisbursed());
+        writeCsvField(writer, app.getSubmissionDate());
+        writeCsvField(writer, app.getLastUpdated());
+        writeCsvField(writer, app.getStatusChangedAt());
+        writeCsvField(writer, app.getVersion());
+        writer.write('\n');
+    }
+
+    private void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,68 +1,396 @@
 package com.intern.service;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.camunda.bpm.engine.exception.NullValueException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intern.dto.BatchSubmissionResult;
+import com.intern.dto.LoanApplicationPage;
+import com.intern.dto.LoanApplicationSummary;
 import com.intern.entity.ApplicationStatus;
 import com.intern.entity.LoanApplication;
 import com.intern.repo.LoanApplicationRepository;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
 @Service
 public class LoanApplicationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoanApplicationService.class);
+
+    private static final String PROCESS_KEY = "loan-application-process";
+
     @Autowired
     private LoanApplicationRepository repository;
 
     @Autowired
     private CamundaProcessService camundaProcessService;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${loan.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${loan.listing.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${loan.listing.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${loan.concurrency.update-attempts:3}")
+    private int updateAttempts;
+
+    @Value("${loan.concurrency.update-backoff-ms:20}")
+    private long updateBackoffMillis;
+
+    @Transactional
     public LoanApplication submitApplication(LoanApplication application) {
         // Set initial values
+        LocalDateTime now = LocalDateTime.now();
+        application.setVersion(null);
         application.setStatus(ApplicationStatus.SUBMITTED);
-        application.setSubmissionDate(LocalDateTime.now());
-        application.setLastUpdated(LocalDateTime.now());
+        application.setSubmissionDate(now);
+        application.setLastUpdated(now);
+        application.setStatusChangedAt(now);
 
-        // Save application first
+        // Persist to obtain the pooled sequence id; the INSERT is deferred until commit
         LoanApplication saved = repository.save(application);
+        publishTransition(saved, null, null, now);
 
-        // Start Camunda process
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("applicationId", saved.getId());
-        variables.put("applicantName", saved.getApplicantName());
-        variables.put("loanAmount", saved.getLoanAmount());
-        variables.put("annualIncome", saved.getAnnualIncome());
+        // Start Camunda process keyed by the application id
+        String processInstanceId = camundaProcessService.startProcess(PROCESS_KEY,
+                String.valueOf(saved.getId()), LoanVariableCodec.start(saved.getId()));
 
-        String processInstanceId = camundaProcessService.startProcess("loan-application-process", variables);
-
-        // Update application with process instance ID
+        // Managed entity, so the process instance id goes out with the single INSERT
         saved.setProcessInstanceId(processInstanceId);
-        return repository.save(saved);
+        return saved;
+    }
+
+    @PostConstruct
+    void validateChunkSize() {
+        if (batchChunkSize <= 0) {
+            throw new IllegalStateException("loan.batch.chunk-size must be positive, was " + batchChunkSize);
+        }
     }
 
-    public List<LoanApplication> getAllApplications() {
-        return repository.findAll();
+    public List<BatchSubmissionResult> submitApplications(List<LoanApplication> applications) {
+        List<BatchSubmissionResult> results = new ArrayList<>(applications.size());
+        for (int from = 0; from < applications.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, applications.size());
+            List<Integer> indexes = IntStream.range(from, to).boxed().toList();
+            results.addAll(submitChunk(applications.subList(from, to), indexes));
+        }
+        return inInputOrder(results);
+    }
+
+    public List<BatchSubmissionResult> submitApplicationStream(InputStream ndjson) throws IOException {
+        List<BatchSubmissionResult> results = new ArrayList<>();
+        List<LoanApplication> chunk = new ArrayList<>(batchChunkSize);
+        // Line number of each chunk entry; malformed lines in between leave gaps
+        List<Integer> chunkIndexes = new ArrayList<>(batchChunkSize);
+        int index = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            LoanApplication application;
+            try {
+                application = objectMapper.readValue(line, LoanApplication.class);
+            } catch (JsonProcessingException e) {
+                application = null;
+                results.add(BatchSubmissionResult.failed(index, "Malformed JSON: " + e.getOriginalMessage()));
+            }
+
+            if (application != null) {
+                chunk.add(application);
+                chunkIndexes.add(index);
+            }
+            index++;
+
+            if (chunk.size() >= batchChunkSize) {
+                results.addAll(submitChunk(chunk, chunkIndexes));
+                chunk = new ArrayList<>(batchChunkSize);
+                chunkIndexes = new ArrayList<>(batchChunkSize);
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            results.addAll(submitChunk(chunk, chunkIndexes));
+        }
+        return inInputOrder(results);
+    }
+
+    private List<BatchSubmissionResult> inInputOrder(List<BatchSubmissionResult> results) {
+        results.sort(Comparator.comparingInt(BatchSubmissionResult::index));
+        return results;
+    }
+
+    // indexes.get(i) is the input position of chunk.get(i)
+    List<BatchSubmissionResult> submitChunk(List<LoanApplication> chunk, List<Integer> indexes) {
+        List<BatchSubmissionResult> results = new ArrayList<>(chunk.size());
+        List<LoanApplication> valid = new ArrayList<>(chunk.size());
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            LoanApplication application = chunk.get(i);
+            Set<ConstraintViolation<LoanApplication>> violations = validator.validate(application);
+            if (violations.isEmpty()) {
+                valid.add(application);
+                validIndexes.add(indexes.get(i));
+            } else {
+                results.add(BatchSubmissionResult.failed(indexes.get(i), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", "))));
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return results;
+        }
+
+        try {
+            List<LoanApplication> submitted = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (LoanApplication application : valid) {
+                    application.setId(null);
+                    application.setVersion(null);
+                    application.setStatus(ApplicationStatus.SUBMITTED);
+                    application.setSubmissionDate(now);
+                    application.setLastUpdated(now);
+                    application.setStatusChangedAt(now);
+                }
+
+                List<LoanApplication> saved = repository.saveAll(valid);
+                for (LoanApplication application : saved) {
+                    publishTransition(application, null, null, now);
+                    application.setProcessInstanceId(camundaProcessService.startProcess(PROCESS_KEY,
+                            String.valueOf(application.getId()), LoanVariableCodec.start(application.getId())));
+                }
+                return saved;
+            });
+
+            for (int i = 0; i < submitted.size(); i++) {
+                LoanApplication application = submitted.get(i);
+                results.add(BatchSubmissionResult.submitted(validIndexes.get(i), application.getId(),
+                        application.getProcessInstanceId()));
+            }
+        } catch (Exception e) {
+            // One bad item rolls back the whole chunk, so fall back to submitting items one by one
+            logger.warn("Batch chunk starting at item {} failed, retrying {} items individually: {}",
+                    indexes.get(0), valid.size(), e.getMessage());
+            for (int i = 0; i < valid.size(); i++) {
+                results.add(submitSingle(valid.get(i), validIndexes.get(i)));
+            }
+        }
+        return results;
+    }
+
+    private BatchSubmissionResult submitSingle(LoanApplication application, int index) {
+        try {
+            application.setId(null);
+            application.setProcessInstanceId(null);
+            LoanApplication saved = transactionTemplate.execute(status -> submitApplication(application));
+            return BatchSubmissionResult.submitted(index, saved.getId(), saved.getProcessInstanceId());
+        } catch (Exception e) {
+            logger.error("Error submitting batch item {}", index, e);
+            return BatchSubmissionResult.failed(index, e.getMessage());
+        }
+    }
+
+    public LoanApplicationPage getApplicationsPage(String cursor, Integer size) {
+        return getApplicationsPage(null, cursor, size);
+    }
+
+    public LoanApplicationPage getApplicationsPage(ApplicationStatus status, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        // Fetch one extra row to know whether another page follows
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<LoanApplicationSummary> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = status == null
+                    ? repository.findFirstPage(limit)
+                    : repository.findFirstPageByStatus(status, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime lastUpdated = LocalDateTime.parse(position[0]);
+            Long id = Long.valueOf(position[1]);
+            rows = status == null
+                    ? repository.findPageAfter(lastUpdated, id, limit)
+                    : repository.findPageByStatusAfter(status, lastUpdated, id, limit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return new LoanApplicationPage(rows, null);
+        }
+
+        List<LoanApplicationSummary> items = rows.subList(0, pageSize);
+        LoanApplicationSummary last = items.get(pageSize - 1);
+        return new LoanApplicationPage(items, encodeCursor(last.lastUpdated(), last.id()));
+    }
+
+    static String encodeCursor(LocalDateTime lastUpdated, Long id) {
+        String position = lastUpdated + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split("\\|", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
     }
 
     public Optional<LoanApplication> getApplicationById(Long id) {
         return repository.findById(id);
     }
 
-    public List<LoanApplication> getApplicationsByStatus(ApplicationStatus status) {
-        return repository.findByStatus(status);
+    public LoanApplication save(LoanApplication application) {
+        LocalDateTime now = LocalDateTime.now();
+        application.setLastUpdated(now);
+
+        ApplicationStatus previous = application.getPersistedStatus();
+        if (previous == application.getStatus()) {
+            return repository.save(application);
+        }
+
+        LocalDateTime since = application.getStatusChangedAt() != null
+                ? application.getStatusChangedAt()
+                : application.getSubmissionDate();
+        application.setStatusChangedAt(now);
+        LoanApplication saved = repository.save(application);
+        publishTransition(saved, previous, since, now);
+        return saved;
     }
 
-    public LoanApplication save(LoanApplication application) {
-        application.setLastUpdated(LocalDateTime.now());
-        return repository.save(application);
+    // Loads, changes and saves an application, re-reading and re-applying the change when a concurrent writer got
+    // there first. Inside a caller's transaction a conflict can only roll back the whole unit of work, so it is
+    // left to the caller's own retry (the job executor retries failed jobs).
+    public LoanApplication updateWithRetry(Long id, Consumer<LoanApplication> change) {
+        return updateWithRetry(id, change, saved -> {
+        });
+    }
+
+    // Applies the change and completes the application's active task in one transaction, so the status only moves
+    // when the process does. Throws IllegalStateException, with nothing written, when the task is not active.
+    public LoanApplication updateAndCompleteTask(Long id, String taskDefinitionKey, Consumer<LoanApplication> change,
+            Function<LoanApplication, Map<String, Object>> variables) {
+        Consumer<LoanApplication> complete = saved -> camundaProcessService.completeActiveTask(
+                saved.getProcessInstanceId(), taskDefinitionKey, variables.apply(saved));
+        try {
+            return updateWithRetry(id, change, complete);
+        } catch (NullValueException e) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw e;
+            }
+            // The task behind a stale cached id is gone; its id was evicted, so this resolves the task again
+            return updateWithRetry(id, change, complete);
+        }
+    }
+
+    // afterSave runs in the same transaction as the change, so its failure rolls the change back
+    private LoanApplication updateWithRetry(Long id, Consumer<LoanApplication> change,
+            Consumer<LoanApplication> afterSave) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return applyUpdate(id, change, afterSave);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyUpdate(id, change, afterSave));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= updateAttempts) {
+                    throw e;
+                }
+                logger.debug("Concurrent update of application {}, attempt {} of {}", id, attempt, updateAttempts);
+                try {
+                    // Jittered so colliding writers do not retry in lockstep
+                    Thread.sleep(ThreadLocalRandom.current().nextLong(updateBackoffMillis * attempt + 1));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private LoanApplication applyUpdate(Long id, Consumer<LoanApplication> change,
+            Consumer<LoanApplication> afterSave) {
+        LoanApplication application = repository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Loan application not found: " + id));
+        change.accept(application);
+        LoanApplication saved = save(application);
+        afterSave.accept(saved);
+        return saved;
+    }
+
+    private void publishTransition(LoanApplication application, ApplicationStatus previous,
+            LocalDateTime since, LocalDateTime now) {
+        // Later saves in the same transaction compare against this status, not the one still in the database
+        application.setPersistedStatus(application.getStatus());
+        Long dwellMillis = previous != null && since != null ? Duration.between(since, now).toMillis() : null;
+        eventPublisher.publishEvent(new StatusTransition(application.getId(), previous, application.getStatus(),
+                now, dwellMillis, application.getSubmissionDate()));
     }
 
+    @Transactional
     public void deleteApplication(Long id) {
-        repository.deleteById(id);
+        repository.findById(id).ifPresent(application -> {
+            repository.delete(application);
+            eventPublisher.publishEvent(new ApplicationDeleted(id, application.getPersistedStatus()));
+        });
     }
-}
\ No newline at end of file
+}
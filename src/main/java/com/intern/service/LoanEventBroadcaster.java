@@ -0,0 +1,215 @@
+package com.intern.service;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.engine.delegate.DelegateTask;
+import org.camunda.bpm.engine.delegate.TaskListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.intern.dto.LoanEvent;
+import com.intern.entity.ApplicationStatus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Fans committed status and task events out to SSE subscribers, dropping any that fall behind
+@Component
+public class LoanEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoanEventBroadcaster.class);
+
+    // Queued in place of an event to make the sender write an SSE comment
+    private static final LoanEvent HEARTBEAT = new LoanEvent("heartbeat", null, null, null, null, null, null, null);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loan.events.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${loan.events.subscriber-queue-capacity:256}")
+    private int subscriberQueueCapacity;
+
+    @Value("${loan.events.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Slots taken, reserved before a subscriber is added so concurrent requests cannot exceed the cap
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    private Counter evicted;
+
+    @PostConstruct
+    public void init() {
+        evicted = Counter.builder("loan.events.subscribers.evicted")
+                .description("SSE subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("loan.events.subscribers", subscribers, Set::size)
+                .description("Connected SSE subscribers")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.close(null));
+    }
+
+    public Optional<SseEmitter> subscribe(Long applicationId, ApplicationStatus status) {
+        if (reserved.incrementAndGet() > maxSubscribers) {
+            reserved.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, applicationId, status,
+                new ArrayBlockingQueue<>(subscriberQueueCapacity));
+        emitter.onCompletion(() -> subscriber.close(null));
+        emitter.onTimeout(() -> subscriber.close(null));
+        emitter.onError(error -> subscriber.close(null));
+
+        subscribers.add(subscriber);
+        subscriber.sender = Thread.ofVirtual().name("sse-subscriber").start(() -> runSender(subscriber));
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(StatusTransition transition) {
+        publish(LoanEvent.statusChanged(transition.applicationId(), transition.to(), transition.from(),
+                transition.at()));
+    }
+
+    @EventListener
+    public void onTaskEvent(DelegateTask task) {
+        String type = switch (task.getEventName()) {
+            case TaskListener.EVENTNAME_CREATE -> LoanEvent.TASK_CREATED;
+            case TaskListener.EVENTNAME_COMPLETE -> LoanEvent.TASK_COMPLETED;
+            default -> null;
+        };
+        if (type == null || task.getProcessInstanceId() == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        // Read everything from the task now; the engine object must not be touched after commit
+        LoanEvent event = LoanEvent.task(type, applicationId(task), task.getProcessInstanceId(), task.getId(),
+                task.getTaskDefinitionKey());
+        TransactionHooks.afterCommit(() -> publish(event));
+    }
+
+    @Scheduled(fixedDelayString = "${loan.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        // Also how dead connections are found: the write fails and the subscriber is closed
+        subscribers.forEach(subscriber -> subscriber.queue.offer(HEARTBEAT));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(LoanEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event) && !subscriber.queue.offer(event)) {
+                evicted.increment();
+                logger.info("Evicting SSE subscriber that fell {} events behind", subscriber.queue.size());
+                subscriber.close(null);
+            }
+        }
+    }
+
+    private void runSender(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                LoanEvent event = subscriber.queue.take();
+                if (event == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name(event.type())
+                            .data(event));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            logger.debug("SSE subscriber disconnected: {}", e.getMessage());
+            subscriber.close(e);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        // Set removal succeeds once, so the slot is released once however often close() races
+        if (subscribers.remove(subscriber)) {
+            reserved.decrementAndGet();
+        }
+    }
+
+    private static Long applicationId(DelegateTask task) {
+        String businessKey = task.getExecution() != null ? task.getExecution().getProcessBusinessKey() : null;
+        Long applicationId = LoanVariableCodec.decodeApplicationId(businessKey);
+        return applicationId != null
+                ? applicationId
+                : LoanVariableCodec.decodeApplicationId(task.getVariable(LoanVariableCodec.APPLICATION_ID));
+    }
+
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final Long applicationId;
+        final ApplicationStatus status;
+        final BlockingQueue<LoanEvent> queue;
+        volatile Thread sender;
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Long applicationId, ApplicationStatus status, BlockingQueue<LoanEvent> queue) {
+            this.emitter = emitter;
+            this.applicationId = applicationId;
+            this.status = status;
+            this.queue = queue;
+        }
+
+        boolean accepts(LoanEvent event) {
+            if (applicationId != null && !applicationId.equals(event.applicationId())) {
+                return false;
+            }
+            // A status filter selects status changes into that status; task events carry no status
+            return status == null || status == event.status();
+        }
+
+        void close(Throwable error) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            remove(this);
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+            // After a failed write the container completes the emitter itself
+            if (error == null) {
+                try {
+                    emitter.complete();
+                } catch (Exception e) {
+                    // Already completed by the container
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.intern.service;
+
+public final class LoanTaskKeys {
+
+    public static final String REVIEW_APPLICATION = "Activity_138c7bf";
+    public static final String CREDIT_CHECK = "Activity_1sohyjc";
+    public static final String APPROVE_LOAN = "Activity_0nyafzx";
+    public static final String PREPARE_AGREEMENT = "Activity_1m5wqcw";
+    public static final String SIGN_AGREEMENT = "Activity_0ga4ksm";
+
+    private LoanTaskKeys() {
+    }
+}
@@ -0,0 +1,87 @@
+package com.intern.service;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+// Loan process variables: the application id plus typed primitives for gateways, never serialized objects
+public final class LoanVariableCodec {
+
+    public static final String APPLICATION_ID = "applicationId";
+    public static final String APPLICATION_COMPLETE = "applicationComplete";
+    public static final String CREDIT_SCORE = "creditScore";
+    public static final String CREDIT_APPROVED = "creditApproved";
+    public static final String RISK_SCORE = "riskScore";
+    public static final String RISK_ACCEPTABLE = "riskAcceptable";
+    public static final String LOAN_APPROVED = "loanApproved";
+    public static final String AGREEMENT_PREPARED = "agreementPrepared";
+    public static final String AGREEMENT_SIGNED = "agreementSigned";
+    public static final String FUNDS_DISBURSED = "fundsDisbursed";
+    public static final String TRANSACTION_ID = "transactionId";
+    public static final String NOTIFICATION_SENT = "notificationSent";
+
+    // Written by earlier versions; removed from running instances by ProcessVariableMigration
+    public static final List<String> LEGACY_VARIABLES = List.of(
+            "applicantName", "loanAmount", "annualIncome", "missingDocuments", "rejectionReason",
+            "riskAssessmentComplete", "disbursementDate", "finalStatus");
+
+    private LoanVariableCodec() {
+    }
+
+    public static VariableMap start(long applicationId) {
+        return Variables.createVariables().putValueTyped(APPLICATION_ID, Variables.longValue(applicationId));
+    }
+
+    public static VariableMap flag(String name, boolean value) {
+        return Variables.createVariables().putValueTyped(name, Variables.booleanValue(value));
+    }
+
+    public static VariableMap creditCheck(int creditScore, boolean approved) {
+        return Variables.createVariables()
+                .putValueTyped(CREDIT_SCORE, Variables.longValue((long) creditScore))
+                .putValueTyped(CREDIT_APPROVED, Variables.booleanValue(approved));
+    }
+
+    public static VariableMap riskAssessment(double riskScore, boolean acceptable) {
+        return Variables.createVariables()
+                .putValueTyped(RISK_SCORE, Variables.doubleValue(riskScore))
+                .putValueTyped(RISK_ACCEPTABLE, Variables.booleanValue(acceptable));
+    }
+
+    public static VariableMap disbursement(String transactionId) {
+        return Variables.createVariables()
+                .putValueTyped(FUNDS_DISBURSED, Variables.booleanValue(true))
+                .putValueTyped(TRANSACTION_ID, Variables.stringValue(transactionId));
+    }
+
+    public static Long applicationId(DelegateExecution execution) {
+        // Typed read, so a legacy serialized value is never deserialized just to find the id
+        TypedValue value = execution.getVariableTyped(APPLICATION_ID, false);
+        Long applicationId = decodeApplicationId(value != null ? value.getValue() : null);
+        if (applicationId == null) {
+            applicationId = decodeApplicationId(execution.getProcessBusinessKey());
+        }
+        if (applicationId == null) {
+            throw new RuntimeException("Application ID not found in process variables");
+        }
+        return applicationId;
+    }
+
+    // Tolerates ids written as Integer or String by older clients
+    public static Long decodeApplicationId(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.valueOf(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
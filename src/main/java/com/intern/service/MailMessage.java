@@ -0,0 +1,4 @@
+package com.intern.service;
+
+public record MailMessage(Long notificationId, String recipient, String subject, String body) {
+}
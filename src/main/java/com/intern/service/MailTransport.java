@@ -0,0 +1,9 @@
+package com.intern.service;
+
+import java.util.List;
+
+public interface MailTransport {
+
+    // Throwing marks the whole batch for retry
+    void send(List<MailMessage> batch);
+}
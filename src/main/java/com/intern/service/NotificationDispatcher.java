@@ -0,0 +1,192 @@
+package com.intern.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.entity.NotificationOutbox;
+import com.intern.entity.NotificationStatus;
+import com.intern.repo.NotificationOutboxRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private MailTransport mailTransport;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loan.notification.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${loan.notification.batch-size:50}")
+    private int batchSize;
+
+    @Value("${loan.notification.senders:2}")
+    private int senders;
+
+    @Value("${loan.notification.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${loan.notification.initial-backoff-ms:1000}")
+    private long initialBackoffMillis;
+
+    @Value("${loan.notification.max-backoff-ms:300000}")
+    private long maxBackoffMillis;
+
+    private BlockingQueue<Long> queue;
+
+    // Outbox ids currently queued or being sent, so the poller does not enqueue them twice
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final List<Thread> senderThreads = new ArrayList<>();
+
+    private volatile boolean running;
+
+    private Timer sendTimer;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        sendTimer = Timer.builder("loan.notification.send")
+                .description("Mail transport time per notification batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("loan.notification.queue.depth", queue, BlockingQueue::size)
+                .description("Notifications waiting for a sender")
+                .register(meterRegistry);
+        running = true;
+        for (int i = 0; i < senders; i++) {
+            senderThreads.add(Thread.ofVirtual().name("notification-sender-" + i).start(this::runSender));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        senderThreads.forEach(Thread::interrupt);
+    }
+
+    public void enqueue(Long notificationId) {
+        // A full queue is not an error: the row stays PENDING and the poller picks it up later
+        if (inFlight.add(notificationId) && !queue.offer(notificationId)) {
+            inFlight.remove(notificationId);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${loan.notification.poll-interval-ms:5000}")
+    public void enqueueDueNotifications() {
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+
+        List<NotificationOutbox> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAt(
+                NotificationStatus.PENDING, LocalDateTime.now(), Limit.of(capacity));
+        for (NotificationOutbox notification : due) {
+            enqueue(notification.getId());
+        }
+    }
+
+    private void runSender() {
+        List<Long> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Notification sender failed for batch {}", batch, e);
+            } finally {
+                batch.forEach(inFlight::remove);
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<Long> ids) {
+        List<NotificationOutbox> pending = outboxRepository.findAllById(ids).stream()
+                .filter(notification -> notification.getStatus() == NotificationStatus.PENDING)
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<MailMessage> messages = pending.stream()
+                .map(n -> new MailMessage(n.getId(), n.getRecipient(), n.getSubject(), n.getBody()))
+                .toList();
+
+        String error = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailTransport.send(messages);
+        } catch (Exception e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            logger.warn("Mail transport failed for {} notifications: {}", messages.size(), error);
+        } finally {
+            sample.stop(sendTimer);
+            meterRegistry.counter("loan.notification.sent", "outcome", error == null ? "sent" : "failed")
+                    .increment(messages.size());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationOutbox notification : pending) {
+            notification.setAttempts(notification.getAttempts() + 1);
+            if (error == null) {
+                notification.setStatus(NotificationStatus.SENT);
+                notification.setSentAt(now);
+                notification.setLastError(null);
+            } else {
+                notification.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+                if (notification.getAttempts() >= maxAttempts) {
+                    notification.setStatus(NotificationStatus.FAILED);
+                } else {
+                    long backoff = backoffMillis(notification.getAttempts());
+                    notification.setNextAttemptAt(now.plus(Duration.ofMillis(backoff)));
+                }
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.saveAll(pending));
+    }
+
+    private long backoffMillis(int attempts) {
+        long backoff = initialBackoffMillis << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxBackoffMillis);
+    }
+}
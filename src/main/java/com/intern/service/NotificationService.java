@@ -2,15 +2,24 @@ package com.intern.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.intern.entity.LoanApplication;
+import com.intern.entity.NotificationOutbox;
+import com.intern.repo.NotificationOutboxRepository;
 
 @Service
 public class NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
     public void sendRejectionNotification(LoanApplication application, String reason) {
         logger.info("Sending rejection notification to: {}", application.getEmail());
 
@@ -25,7 +34,7 @@ public class NotificationService {
                 application.getId(),
                 reason);
 
-        simulateEmailSending(application.getEmail(), "Loan Application Declined", message);
+        enqueueEmail(application.getEmail(), "Loan Application Declined", message);
     }
 
     public void sendDisbursementNotification(LoanApplication application, String transactionId) {
@@ -46,17 +55,18 @@ public class NotificationService {
                 java.time.LocalDateTime.now()
                         .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
 
-        simulateEmailSending(application.getEmail(), "Loan Funds Disbursed", message);
+        enqueueEmail(application.getEmail(), "Loan Funds Disbursed", message);
     }
 
-    private void simulateEmailSending(String email, String subject, String message) {
-        try {
-            Thread.sleep(500);
-            logger.info("Email sent to: {} | Subject: {}", email, subject);
-            logger.debug("Email content: {}", message);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            logger.error("Email sending interrupted", e);
-        }
+    private void enqueueEmail(String email, String subject, String message) {
+        // Written in the caller's transaction, so the notification commits or rolls back with the process step
+        NotificationOutbox notification = new NotificationOutbox();
+        notification.setRecipient(email);
+        notification.setSubject(subject);
+        notification.setBody(message);
+        NotificationOutbox saved = outboxRepository.save(notification);
+
+        TransactionHooks.afterCommit(() -> notificationDispatcher.enqueue(saved.getId()));
+        logger.debug("Queued email to: {} | Subject: {}", email, subject);
     }
 }
@@ -0,0 +1,196 @@
+package com.intern.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.entity.PaymentStatus;
+import com.intern.entity.PaymentTransaction;
+import com.intern.repo.PaymentLedgerRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class PaymentBatchSubmitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentBatchSubmitter.class);
+
+    @Autowired
+    private PaymentGateway paymentGateway;
+
+    @Autowired
+    private PaymentLedgerRepository ledgerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${loan.payment.batch-size:100}")
+    private int batchSize;
+
+    @Value("${loan.payment.batch-window-ms:200}")
+    private long batchWindowMillis;
+
+    private final Object lock = new Object();
+
+    // Keyed by idempotency key so concurrent retries of the same payment share one settlement
+    private Map<String, Pending> pending = new LinkedHashMap<>();
+
+    private ScheduledExecutorService windowTimer;
+
+    // Settlement takes about a second per batch; keeping it off the timer keeps the window on schedule
+    private ExecutorService settlementExecutor;
+
+    private record Pending(PaymentInstruction instruction, CompletableFuture<String> result) {
+    }
+
+    @PostConstruct
+    public void start() {
+        settlementExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("payment-batch-", 0)
+                .factory());
+        windowTimer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("payment-batch-window")
+                .daemon(true)
+                .factory());
+        windowTimer.scheduleWithFixedDelay(this::flush, batchWindowMillis, batchWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        windowTimer.shutdown();
+        windowTimer.awaitTermination(batchWindowMillis * 2, TimeUnit.MILLISECONDS);
+        flush();
+        settlementExecutor.shutdown();
+        if (!settlementExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Payment settlements still running at shutdown");
+        }
+    }
+
+    public CompletableFuture<String> submit(PaymentInstruction instruction) {
+        Map<String, Pending> full = null;
+        CompletableFuture<String> result;
+
+        synchronized (lock) {
+            Pending existing = pending.get(instruction.idempotencyKey());
+            if (existing != null) {
+                return existing.result();
+            }
+            result = new CompletableFuture<>();
+            pending.put(instruction.idempotencyKey(), new Pending(instruction, result));
+            if (pending.size() >= batchSize) {
+                full = pending;
+                pending = new LinkedHashMap<>();
+            }
+        }
+
+        if (full != null) {
+            Map<String, Pending> batch = full;
+            settlementExecutor.execute(() -> settle(batch));
+        }
+        return result;
+    }
+
+    private void flush() {
+        Map<String, Pending> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        settlementExecutor.execute(() -> settle(batch));
+    }
+
+    private void settle(Map<String, Pending> batch) {
+        String batchId = "BATCH-" + UUID.randomUUID();
+        List<PaymentInstruction> instructions = batch.values().stream().map(Pending::instruction).toList();
+
+        Map<String, String> transactionIds;
+        try {
+            transactionIds = paymentGateway.settle(batchId, instructions);
+        } catch (Exception e) {
+            // A retry resubmits under the same key, which the gateway deduplicates
+            logger.error("Settlement of batch {} with {} payments failed", batchId, instructions.size(), e);
+            recordFailure(batchId, batch.keySet(), "Batch " + batchId + " failed: " + e.getMessage());
+            batch.values().forEach(p -> p.result().completeExceptionally(e));
+            return;
+        }
+
+        try {
+            recordSettlement(batchId, transactionIds);
+        } catch (Exception e) {
+            logger.error("Could not record settlement of batch {} in the ledger", batchId, e);
+        }
+
+        List<String> unsettled = batch.keySet().stream().filter(key -> !transactionIds.containsKey(key)).toList();
+        if (!unsettled.isEmpty()) {
+            recordFailure(batchId, unsettled, "Not settled in batch " + batchId);
+        }
+
+        batch.forEach((key, p) -> {
+            String transactionId = transactionIds.get(key);
+            if (transactionId != null) {
+                p.result().complete(transactionId);
+            } else {
+                p.result().completeExceptionally(
+                        new RuntimeException("Payment not settled in batch " + batchId + ": " + key));
+            }
+        });
+    }
+
+    private void recordSettlement(String batchId, Map<String, String> transactionIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<PaymentTransaction> entries = new ArrayList<>(
+                    ledgerRepository.findByIdempotencyKeyIn(transactionIds.keySet()));
+            for (PaymentTransaction entry : entries) {
+                if (entry.getStatus() == PaymentStatus.SETTLED) {
+                    continue;
+                }
+                entry.setStatus(PaymentStatus.SETTLED);
+                entry.setTransactionId(transactionIds.get(entry.getIdempotencyKey()));
+                entry.setBatchId(batchId);
+                entry.setSettledAt(now);
+                entry.setFailureReason(null);
+            }
+            ledgerRepository.saveAll(entries);
+        });
+    }
+
+    private void recordFailure(String batchId, Collection<String> idempotencyKeys, String reason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<PaymentTransaction> entries = new ArrayList<>(
+                        ledgerRepository.findByIdempotencyKeyIn(idempotencyKeys));
+                // An earlier attempt may have settled the same key
+                entries.removeIf(entry -> entry.getStatus() == PaymentStatus.SETTLED);
+                for (PaymentTransaction entry : entries) {
+                    entry.setStatus(PaymentStatus.FAILED);
+                    entry.setBatchId(batchId);
+                    entry.setFailureReason(reason.length() > 1000 ? reason.substring(0, 1000) : reason);
+                }
+                ledgerRepository.saveAll(entries);
+            });
+        } catch (Exception e) {
+            logger.error("Could not record failure of batch {} in the ledger", batchId, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.intern.service;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PaymentGateway {
+
+    // Settles a batch and returns idempotency key -> transaction id; resubmitting a key must not pay twice
+    Map<String, String> settle(String batchId, List<PaymentInstruction> instructions);
+}
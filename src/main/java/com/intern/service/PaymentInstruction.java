@@ -0,0 +1,6 @@
+package com.intern.service;
+
+import java.math.BigDecimal;
+
+public record PaymentInstruction(String idempotencyKey, Long applicationId, String beneficiary, BigDecimal amount) {
+}
@@ -1,44 +1,144 @@
 package com.intern.service;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.intern.entity.LoanApplication;
+import com.intern.entity.PaymentStatus;
+import com.intern.entity.PaymentTransaction;
+import com.intern.repo.PaymentLedgerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 @Service
 public class PaymentService {
 
     private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
 
+    @Autowired
+    private PaymentLedgerRepository ledgerRepository;
+
+    @Autowired
+    private PaymentBatchSubmitter batchSubmitter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loan.payment.settlement-timeout-ms:30000}")
+    private long settlementTimeoutMillis;
+
+    private TransactionTemplate ledgerTransaction;
+
+    private Timer settledTimer;
+
+    private Timer failedTimer;
+
+    @PostConstruct
+    public void init() {
+        // Ledger entries must be committed before money moves, independently of the caller's transaction
+        ledgerTransaction = new TransactionTemplate(transactionManager);
+        ledgerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        settledTimer = disbursementTimer("settled");
+        failedTimer = disbursementTimer("failed");
+    }
+
     public String disburseFunds(LoanApplication application) {
         logger.info("Processing payment disbursement for application: {}", application.getId());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Timer outcome = failedTimer;
         try {
-            // Simulate payment processing delay
-            Thread.sleep(1000);
-
-            // Generate transaction ID
-            String transactionId = "TXN-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"))
-                    + "-" + UUID.randomUUID().toString().substring(0, 8);
+            String transactionId = settle(application);
+            outcome = settledTimer;
+            return transactionId;
+        } finally {
+            sample.stop(outcome);
+        }
+    }
 
-            logger.info("Funds disbursed: ${} to account for {}. Transaction ID: {}",
-                    application.getLoanAmount(),
-                    application.getApplicantName(),
-                    transactionId);
+    private String settle(LoanApplication application) {
+        String idempotencyKey = idempotencyKey(application);
+        PaymentTransaction entry = findOrCreateEntry(application, idempotencyKey);
 
-            return transactionId;
+        if (entry.getStatus() == PaymentStatus.SETTLED) {
+            logger.info("Payment {} already settled for application: {}. Transaction ID: {}",
+                    idempotencyKey, application.getId(), entry.getTransactionId());
+            return entry.getTransactionId();
+        }
+        if (entry.getStatus() == PaymentStatus.FAILED) {
+            // Failed settlements are retried under the same idempotency key
+            logger.info("Retrying payment {} for application: {} after failure: {}",
+                    idempotencyKey, application.getId(), entry.getFailureReason());
+        }
 
+        PaymentInstruction instruction = new PaymentInstruction(idempotencyKey, application.getId(),
+                application.getApplicantName(), application.getLoanAmount());
+        try {
+            return batchSubmitter.submit(instruction).get(settlementTimeoutMillis, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Payment processing interrupted", e);
-        } catch (Exception e) {
-            logger.error("Payment processing failed for application: {}", application.getId(), e);
-            throw new RuntimeException("Payment processing failed: " + e.getMessage(), e);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Payment settlement timed out for application: " + application.getId(), e);
+        } catch (ExecutionException e) {
+            logger.error("Payment processing failed for application: {}", application.getId(), e.getCause());
+            throw new RuntimeException("Payment processing failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public Optional<PaymentTransaction> findPayment(LoanApplication application) {
+        return ledgerRepository.findByIdempotencyKey(idempotencyKey(application));
+    }
+
+    private PaymentTransaction findOrCreateEntry(LoanApplication application, String idempotencyKey) {
+        Optional<PaymentTransaction> existing = ledgerRepository.findByIdempotencyKey(idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        try {
+            return ledgerTransaction.execute(status -> {
+                PaymentTransaction entry = new PaymentTransaction();
+                entry.setIdempotencyKey(idempotencyKey);
+                entry.setApplicationId(application.getId());
+                entry.setProcessInstanceId(application.getProcessInstanceId());
+                entry.setAmount(application.getLoanAmount());
+                return ledgerRepository.saveAndFlush(entry);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent attempt created the entry first
+            return ledgerRepository.findByIdempotencyKey(idempotencyKey).orElseThrow(() -> e);
         }
     }
+
+    private Timer disbursementTimer(String outcome) {
+        // Includes the wait for the batch window and the gateway round trip
+        return Timer.builder("loan.payment.disbursement")
+                .description("End-to-end time to settle a disbursement")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String idempotencyKey(LoanApplication application) {
+        return application.getId() + ":" + application.getProcessInstanceId();
+    }
 }
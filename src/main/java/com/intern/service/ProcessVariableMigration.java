@@ -0,0 +1,105 @@
+package com.intern.service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Idempotently removes legacy variables from running loan instances and retypes applicationId as a long
+@Component
+public class ProcessVariableMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessVariableMigration.class);
+
+    private static final String PROCESS_KEY = "loan-application-process";
+
+    private static final List<String> INSPECTED_VARIABLES = Stream.concat(
+            Stream.of(LoanVariableCodec.APPLICATION_ID), LoanVariableCodec.LEGACY_VARIABLES.stream()).toList();
+
+    @Autowired
+    private RuntimeService runtimeService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${loan.variables.migration.page-size:200}")
+    private int pageSize;
+
+    @Value("${loan.variables.migration.on-startup:false}")
+    private boolean onStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (onStartup) {
+            migrate();
+        }
+    }
+
+    public long migrate() {
+        long migrated = 0;
+        int offset = 0;
+        List<ProcessInstance> page;
+        do {
+            // Migrating does not remove instances from the query, so plain offset paging visits each once
+            page = runtimeService.createProcessInstanceQuery()
+                    .processDefinitionKey(PROCESS_KEY)
+                    .orderByProcessInstanceId().asc()
+                    .listPage(offset, pageSize);
+            List<ProcessInstance> instances = page;
+            migrated += transactionTemplate.execute(status -> {
+                long changed = 0;
+                for (ProcessInstance instance : instances) {
+                    if (migrate(instance)) {
+                        changed++;
+                    }
+                }
+                return changed;
+            });
+            offset += page.size();
+        } while (page.size() == pageSize);
+
+        logger.info("Process variable migration finished: {} instances rewritten", migrated);
+        return migrated;
+    }
+
+    private boolean migrate(ProcessInstance instance) {
+        String id = instance.getId();
+        // One query for all names, without deserializing legacy objects
+        VariableMap variables = runtimeService.getVariablesLocalTyped(id, INSPECTED_VARIABLES, false);
+        boolean changed = false;
+
+        TypedValue applicationId = variables.getValueTyped(LoanVariableCodec.APPLICATION_ID);
+        if (applicationId == null || !(applicationId.getValue() instanceof Long)) {
+            Long decoded = LoanVariableCodec.decodeApplicationId(applicationId != null ? applicationId.getValue() : null);
+            if (decoded == null) {
+                decoded = LoanVariableCodec.decodeApplicationId(instance.getBusinessKey());
+            }
+            if (decoded != null) {
+                runtimeService.setVariablesLocal(id, LoanVariableCodec.start(decoded));
+                changed = true;
+            } else {
+                logger.warn("Process instance {} has no usable application id", id);
+            }
+        }
+
+        List<String> legacy = LoanVariableCodec.LEGACY_VARIABLES.stream()
+                .filter(variables::containsKey)
+                .toList();
+        if (!legacy.isEmpty()) {
+            runtimeService.removeVariablesLocal(id, legacy);
+            changed = true;
+        }
+        return changed;
+    }
+}
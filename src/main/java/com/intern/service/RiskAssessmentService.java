@@ -1,62 +1,117 @@
 package com.intern.service;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.intern.entity.LoanApplication;
 
+import jakarta.annotation.PostConstruct;
+
 @Service
 public class RiskAssessmentService {
 
-    private static final double MAX_RISK_SCORE = 100.0;
-    private static final double ACCEPTABLE_THRESHOLD = 50.0;
-    private static final BigDecimal HIGH_LOAN_THRESHOLD = new BigDecimal("100000");
+    private static final Logger logger = LoggerFactory.getLogger(RiskAssessmentService.class);
 
-    public double calculateRiskScore(LoanApplication application) {
-        double riskScore = 0.0;
+    public static final byte EMPLOYMENT_OTHER = 0;
+    public static final byte EMPLOYMENT_UNEMPLOYED = 1;
+    public static final byte EMPLOYMENT_PART_TIME = 2;
 
-        // Income-to-loan ratio (loan / income) - using double conversion
-        if (application.getAnnualIncome() != null && application.getLoanAmount() != null
-                && application.getAnnualIncome().compareTo(BigDecimal.ZERO) > 0) {
+    public static final int NO_CREDIT_SCORE = -1;
 
-            double loanAmount = application.getLoanAmount().doubleValue();
-            double annualIncome = application.getAnnualIncome().doubleValue();
-            double incomeRatio = loanAmount / annualIncome;
+    @Value("${loan.risk.model-location:classpath:risk-model.properties}")
+    private Resource modelLocation;
 
-            riskScore += incomeRatio * 30; // Weight: 30%
-        }
+    // Readers take one snapshot per assessment, so a swap never mixes two models in a single score
+    private volatile RiskModel model;
 
-        // Credit score impact (lower score → higher risk)
-        if (application.getCreditScore() != null) {
-            riskScore += (850 - application.getCreditScore()) / 850.0 * 40; // Weight: 40%
-        }
+    private volatile long modelLastModified;
 
-        // Employment status impact
-        if ("UNEMPLOYED".equalsIgnoreCase(application.getEmploymentStatus())) {
-            riskScore += 20; // Weight: 20%
-        } else if ("PART_TIME".equalsIgnoreCase(application.getEmploymentStatus())) {
-            riskScore += 10; // Weight: 10%
-        }
+    // Not synchronized: reading the definition blocks, which would pin a virtual carrier thread
+    private final ReentrantLock reloadLock = new ReentrantLock();
 
-        // Loan amount impact
-        if (application.getLoanAmount() != null
-                && application.getLoanAmount().compareTo(HIGH_LOAN_THRESHOLD) > 0) {
-            riskScore += 10; // Weight: 10%
-        }
+    @PostConstruct
+    public void init() throws IOException {
+        model = load();
+        logger.info("Loaded risk model version {} from {}", model.getVersion(), modelLocation);
+    }
 
-        return Math.min(MAX_RISK_SCORE, riskScore);
+    public RiskModel currentModel() {
+        return model;
+    }
+
+    public double calculateRiskScore(LoanApplication application) {
+        return model.score(application);
     }
 
     public boolean isRiskAcceptable(double riskScore) {
-        return riskScore <= ACCEPTABLE_THRESHOLD;
+        return model.isAcceptable(riskScore);
     }
 
     public String getRiskRejectionReason(double riskScore) {
-        if (!isRiskAcceptable(riskScore)) {
-            return "Risk score too high: " + String.format("%.2f", riskScore)
-                    + ". Maximum acceptable: " + ACCEPTABLE_THRESHOLD;
+        return model.rejectionReason(riskScore);
+    }
+
+    public RiskModel reload() throws IOException {
+        reloadLock.lock();
+        try {
+            RiskModel previous = model;
+            model = load();
+            if (!model.getVersion().equals(previous.getVersion())) {
+                logger.info("Risk model swapped from version {} to {}", previous.getVersion(), model.getVersion());
+            }
+            return model;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${loan.risk.model-reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        try {
+            if (lastModified() != modelLastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            // Keep serving the previous model until the definition is fixed
+            logger.error("Could not reload risk model from {}: {}", modelLocation, e.getMessage());
+        }
+    }
+
+    private RiskModel load() throws IOException {
+        long lastModified = lastModified();
+        Properties properties = new Properties();
+        try (InputStream in = modelLocation.getInputStream()) {
+            properties.load(in);
+        }
+        RiskModel loaded = RiskModel.fromProperties(properties);
+        modelLastModified = lastModified;
+        return loaded;
+    }
+
+    private long lastModified() {
+        try {
+            return modelLocation.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    public static byte encodeEmploymentStatus(String employmentStatus) {
+        if ("UNEMPLOYED".equalsIgnoreCase(employmentStatus)) {
+            return EMPLOYMENT_UNEMPLOYED;
+        }
+        if ("PART_TIME".equalsIgnoreCase(employmentStatus)) {
+            return EMPLOYMENT_PART_TIME;
         }
-        return null;
+        return EMPLOYMENT_OTHER;
     }
-}
\ No newline at end of file
+}
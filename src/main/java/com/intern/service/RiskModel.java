@@ -0,0 +1,133 @@
+package com.intern.service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import com.intern.entity.LoanApplication;
+
+// Immutable, pre-computed scoring model; swapped as a whole when the definition changes
+public final class RiskModel {
+
+    private final String version;
+    private final double maxRiskScore;
+    private final double acceptableThreshold;
+    private final double incomeRatioWeight;
+    private final double creditScoreWeight;
+    private final double creditScoreCeiling;
+    private final BigDecimal highLoanThreshold;
+    private final double highLoanPenalty;
+
+    // Indexed by RiskAssessmentService.EMPLOYMENT_* codes
+    private final double[] employmentPenalty;
+
+    private RiskModel(Properties properties) {
+        this.version = required(properties, "version");
+        this.maxRiskScore = number(properties, "max-risk-score");
+        this.acceptableThreshold = number(properties, "acceptable-threshold");
+        this.incomeRatioWeight = number(properties, "weight.income-ratio");
+        this.creditScoreWeight = number(properties, "weight.credit-score");
+        this.creditScoreCeiling = number(properties, "credit-score.ceiling");
+        this.highLoanThreshold = new BigDecimal(required(properties, "high-loan.threshold"));
+        this.highLoanPenalty = number(properties, "penalty.high-loan");
+
+        this.employmentPenalty = new double[3];
+        this.employmentPenalty[RiskAssessmentService.EMPLOYMENT_OTHER] = 0;
+        this.employmentPenalty[RiskAssessmentService.EMPLOYMENT_UNEMPLOYED] = number(properties, "penalty.unemployed");
+        this.employmentPenalty[RiskAssessmentService.EMPLOYMENT_PART_TIME] = number(properties, "penalty.part-time");
+
+        if (creditScoreCeiling <= 0) {
+            throw new IllegalArgumentException("credit-score.ceiling must be positive");
+        }
+    }
+
+    public static RiskModel fromProperties(Properties properties) {
+        return new RiskModel(properties);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public double score(LoanApplication application) {
+        double incomeRatio = 0.0;
+        if (application.getAnnualIncome() != null && application.getLoanAmount() != null
+                && application.getAnnualIncome().compareTo(BigDecimal.ZERO) > 0) {
+            incomeRatio = application.getLoanAmount().doubleValue() / application.getAnnualIncome().doubleValue();
+        }
+        int creditScore = application.getCreditScore() != null
+                ? application.getCreditScore()
+                : RiskAssessmentService.NO_CREDIT_SCORE;
+
+        return score(incomeRatio, creditScore,
+                RiskAssessmentService.encodeEmploymentStatus(application.getEmploymentStatus()),
+                isHighLoan(application.getLoanAmount()));
+    }
+
+    public void scoreColumns(double[] incomeRatio, int[] creditScore, byte[] employment, boolean[] highLoan,
+            double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = score(incomeRatio[i], creditScore[i], employment[i], highLoan[i]);
+        }
+    }
+
+    private double score(double incomeRatio, int creditScore, byte employment, boolean highLoan) {
+        double riskScore = incomeRatio * incomeRatioWeight;
+        if (creditScore != RiskAssessmentService.NO_CREDIT_SCORE) {
+            riskScore += (creditScoreCeiling - creditScore) / creditScoreCeiling * creditScoreWeight;
+        }
+        riskScore += employmentPenalty[employment];
+        if (highLoan) {
+            riskScore += highLoanPenalty;
+        }
+        return Math.min(maxRiskScore, riskScore);
+    }
+
+    public boolean isHighLoan(BigDecimal loanAmount) {
+        return loanAmount != null && loanAmount.compareTo(highLoanThreshold) > 0;
+    }
+
+    public boolean isAcceptable(double riskScore) {
+        return riskScore <= acceptableThreshold;
+    }
+
+    public String rejectionReason(double riskScore) {
+        if (!isAcceptable(riskScore)) {
+            return "Risk score too high: " + String.format("%.2f", riskScore)
+                    + ". Maximum acceptable: " + acceptableThreshold;
+        }
+        return null;
+    }
+
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("version", version);
+        description.put("maxRiskScore", maxRiskScore);
+        description.put("acceptableThreshold", acceptableThreshold);
+        description.put("incomeRatioWeight", incomeRatioWeight);
+        description.put("creditScoreWeight", creditScoreWeight);
+        description.put("creditScoreCeiling", creditScoreCeiling);
+        description.put("unemployedPenalty", employmentPenalty[RiskAssessmentService.EMPLOYMENT_UNEMPLOYED]);
+        description.put("partTimePenalty", employmentPenalty[RiskAssessmentService.EMPLOYMENT_PART_TIME]);
+        description.put("highLoanThreshold", highLoanThreshold);
+        description.put("highLoanPenalty", highLoanPenalty);
+        return description;
+    }
+
+    private static String required(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Risk model property missing: " + key);
+        }
+        return value.trim();
+    }
+
+    private static double number(Properties properties, String key) {
+        try {
+            return Double.parseDouble(required(properties, key));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Risk model property is not a number: " + key, e);
+        }
+    }
+}
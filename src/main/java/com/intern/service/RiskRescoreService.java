@@ -0,0 +1,225 @@
+package com.intern.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.intern.dto.RescoreProgress;
+import com.intern.entity.LoanApplication;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+@Service
+public class RiskRescoreService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RiskRescoreService.class);
+
+    private static final String SELECT_CHUNK = "select id, loan_amount, annual_income, credit_score, employment_status "
+            + "from loan_applications where id > ? order by id limit ?";
+
+    private static final String UPDATE_SCORE = "update loan_applications set risk_score = ?, risk_model_version = ?, "
+            + "version = version + 1 where id = ?";
+
+    // Rows scored sequentially by one task of the parallel pass
+    private static final int SLICE_SIZE = 4096;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RiskAssessmentService riskAssessmentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${loan.risk.rescore.chunk-size:50000}")
+    private int chunkSize;
+
+    @Value("${loan.risk.rescore.write-batch-size:1000}")
+    private int writeBatchSize;
+
+    @Value("${loan.risk.rescore.retained-jobs:20}")
+    private int retainedJobs;
+
+    private final Map<String, RescoreJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicReference<RescoreJob> running = new AtomicReference<>();
+
+    public Optional<RescoreProgress> startRescore() {
+        RescoreJob job = new RescoreJob(UUID.randomUUID().toString());
+        if (!running.compareAndSet(null, job)) {
+            return Optional.empty();
+        }
+        jobs.put(job.id, job);
+        Thread.ofVirtual().name("risk-rescore-" + job.id).start(() -> run(job));
+        return Optional.of(job.progress());
+    }
+
+    public Optional<RescoreProgress> getProgress(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(RescoreJob::progress);
+    }
+
+    public Optional<RescoreProgress> getRunningJob() {
+        return Optional.ofNullable(running.get()).map(RescoreJob::progress);
+    }
+
+    private void run(RescoreJob job) {
+        try {
+            Long total = jdbcTemplate.queryForObject("select count(*) from loan_applications", Long.class);
+            job.total = total != null ? total : 0;
+            logger.info("Starting risk re-score job {} over {} applications", job.id, job.total);
+
+            // One model for the whole run, even if a new one is swapped in meanwhile
+            RiskModel model = riskAssessmentService.currentModel();
+            job.modelVersion = model.getVersion();
+
+            // Column buffers are allocated once and reused for every chunk
+            Columns columns = new Columns(chunkSize);
+            long lastId = 0;
+            int loaded;
+            while ((loaded = load(model, columns, lastId)) > 0) {
+                score(model, columns, loaded);
+                write(model, columns, loaded);
+                // Plain JDBC bypasses the second-level cache, so drop entries this chunk made stale
+                evict(columns, loaded);
+                lastId = columns.ids[loaded - 1];
+                job.processed.addAndGet(loaded);
+            }
+
+            job.state = "COMPLETED";
+            logger.info("Risk re-score job {} completed: {} applications", job.id, job.processed.get());
+        } catch (Exception e) {
+            job.state = "FAILED";
+            job.error = e.getMessage();
+            logger.error("Risk re-score job {} failed", job.id, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            running.set(null);
+            pruneFinishedJobs();
+        }
+    }
+
+    // Progress stays queryable for the most recent finished jobs only
+    private void pruneFinishedJobs() {
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing((RescoreJob job) -> job.finishedAt).reversed())
+                .skip(retainedJobs)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    // Slices run on the common fork-join pool; each writes a disjoint range of the score column
+    private void score(RiskModel model, Columns columns, int size) {
+        int slices = (size + SLICE_SIZE - 1) / SLICE_SIZE;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            int from = slice * SLICE_SIZE;
+            model.scoreColumns(columns.incomeRatio, columns.creditScore, columns.employment,
+                    columns.highLoan, columns.scores, from, Math.min(from + SLICE_SIZE, size));
+        });
+    }
+
+    private int load(RiskModel model, Columns columns, long afterId) {
+        int[] count = {0};
+        jdbcTemplate.query(SELECT_CHUNK, rs -> {
+            int i = count[0]++;
+            columns.ids[i] = rs.getLong(1);
+
+            BigDecimal loanAmount = rs.getBigDecimal(2);
+            BigDecimal annualIncome = rs.getBigDecimal(3);
+            columns.incomeRatio[i] = loanAmount != null && annualIncome != null
+                    && annualIncome.compareTo(BigDecimal.ZERO) > 0
+                            ? loanAmount.doubleValue() / annualIncome.doubleValue()
+                            : 0.0;
+
+            int creditScore = rs.getInt(4);
+            columns.creditScore[i] = rs.wasNull() ? RiskAssessmentService.NO_CREDIT_SCORE : creditScore;
+            columns.employment[i] = RiskAssessmentService.encodeEmploymentStatus(rs.getString(5));
+            columns.highLoan[i] = model.isHighLoan(loanAmount);
+        }, afterId, chunkSize);
+        return count[0];
+    }
+
+    private void write(RiskModel model, Columns columns, int size) {
+        for (int from = 0; from < size; from += writeBatchSize) {
+            int offset = from;
+            int batch = Math.min(writeBatchSize, size - from);
+            jdbcTemplate.batchUpdate(UPDATE_SCORE, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setDouble(1, columns.scores[offset + i]);
+                    ps.setString(2, model.getVersion());
+                    ps.setLong(3, columns.ids[offset + i]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return batch;
+                }
+            });
+        }
+    }
+
+    private void evict(Columns columns, int size) {
+        Cache cache = entityManagerFactory.getCache();
+        for (int i = 0; i < size; i++) {
+            cache.evict(LoanApplication.class, columns.ids[i]);
+        }
+    }
+
+    private static final class Columns {
+        final long[] ids;
+        final double[] incomeRatio;
+        final int[] creditScore;
+        final byte[] employment;
+        final boolean[] highLoan;
+        final double[] scores;
+
+        Columns(int capacity) {
+            ids = new long[capacity];
+            incomeRatio = new double[capacity];
+            creditScore = new int[capacity];
+            employment = new byte[capacity];
+            highLoan = new boolean[capacity];
+            scores = new double[capacity];
+        }
+    }
+
+    private static final class RescoreJob {
+        final String id;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong processed = new AtomicLong();
+        volatile long total;
+        volatile String state = "RUNNING";
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+        volatile String modelVersion;
+
+        RescoreJob(String id) {
+            this.id = id;
+        }
+
+        RescoreProgress progress() {
+            long done = processed.get();
+            double percent = total > 0 ? Math.min(100.0, done * 100.0 / total) : ("RUNNING".equals(state) ? 0 : 100);
+            return new RescoreProgress(id, state, modelVersion, total, done, percent, startedAt, finishedAt, error);
+        }
+    }
+}
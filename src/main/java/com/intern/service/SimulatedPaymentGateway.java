@@ -0,0 +1,50 @@
+package com.intern.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SimulatedPaymentGateway implements PaymentGateway {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedPaymentGateway.class);
+
+    private final Map<String, String> settled = new ConcurrentHashMap<>();
+
+    @Value("${loan.payment.simulator.batch-latency-ms:1000}")
+    private long batchLatencyMillis;
+
+    @Override
+    public Map<String, String> settle(String batchId, List<PaymentInstruction> instructions) {
+        try {
+            // Simulate one settlement round-trip per batch
+            Thread.sleep(batchLatencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Payment settlement interrupted", e);
+        }
+
+        String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        Map<String, String> transactionIds = new HashMap<>();
+        for (PaymentInstruction instruction : instructions) {
+            String transactionId = settled.computeIfAbsent(instruction.idempotencyKey(),
+                    key -> "TXN-" + date + "-" + UUID.randomUUID().toString().substring(0, 8));
+            transactionIds.put(instruction.idempotencyKey(), transactionId);
+
+            logger.info("Funds disbursed: ${} to account for {}. Transaction ID: {}",
+                    instruction.amount(), instruction.beneficiary(), transactionId);
+        }
+
+        logger.info("Settled batch {} with {} payments", batchId, instructions.size());
+        return transactionIds;
+    }
+}
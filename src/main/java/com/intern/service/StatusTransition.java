@@ -0,0 +1,10 @@
+package com.intern.service;
+
+import java.time.LocalDateTime;
+
+import com.intern.entity.ApplicationStatus;
+
+// Published by LoanApplicationService.save whenever an application's status changes
+public record StatusTransition(Long applicationId, ApplicationStatus from, ApplicationStatus to,
+        LocalDateTime at, Long dwellMillis, LocalDateTime submittedAt) {
+}
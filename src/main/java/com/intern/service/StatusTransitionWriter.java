@@ -0,0 +1,128 @@
+package com.intern.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.intern.entity.StatusTransitionEvent;
+import com.intern.repo.StatusTransitionEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Appends committed status transitions to status_transition_events in batches, off the request thread
+@Component
+public class StatusTransitionWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusTransitionWriter.class);
+
+    @Autowired
+    private StatusTransitionEventRepository eventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${loan.analytics.writer.queue-capacity:50000}")
+    private int queueCapacity;
+
+    @Value("${loan.analytics.writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${loan.analytics.writer.flush-interval-ms:500}")
+    private long flushIntervalMillis;
+
+    private BlockingQueue<StatusTransition> queue;
+
+    private Counter dropped;
+
+    private Thread writerThread;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        dropped = Counter.builder("loan.transitions.dropped")
+                .description("Status transitions not persisted because the writer queue was full")
+                .register(meterRegistry);
+        Gauge.builder("loan.transitions.queue.depth", queue, BlockingQueue::size)
+                .description("Status transitions waiting to be written")
+                .register(meterRegistry);
+        running = true;
+        writerThread = Thread.ofVirtual().name("status-transition-writer").start(this::runWriter);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        // Write whatever is left so a clean shutdown loses nothing
+        List<StatusTransition> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(StatusTransition transition) {
+        // Never block the committing thread; the event table is analytics, not the source of truth
+        if (!queue.offer(transition)) {
+            dropped.increment();
+            logger.debug("Transition queue full, dropping {}", transition);
+        }
+    }
+
+    private void runWriter() {
+        List<StatusTransition> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                StatusTransition first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Could not write {} status transitions", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<StatusTransition> transitions) {
+        List<StatusTransitionEvent> events = new ArrayList<>(transitions.size());
+        for (StatusTransition transition : transitions) {
+            StatusTransitionEvent event = new StatusTransitionEvent();
+            event.setApplicationId(transition.applicationId());
+            event.setFromStatus(transition.from());
+            event.setToStatus(transition.to());
+            event.setTransitionedAt(transition.at());
+            event.setDwellMillis(transition.dwellMillis());
+            events.add(event);
+        }
+        transactionTemplate.executeWithoutResult(status -> eventRepository.saveAll(events));
+    }
+}
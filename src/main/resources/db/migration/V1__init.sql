@@ -0,0 +1,80 @@
+-- Application tables. Camunda creates and upgrades its own ACT_* tables (camunda.bpm.database.schema-update).
+-- Kept to types shared by H2 and PostgreSQL.
+
+create sequence loan_application_seq start with 1 increment by 50;
+create sequence notification_outbox_seq start with 1 increment by 50;
+create sequence payment_ledger_seq start with 1 increment by 50;
+create sequence status_transition_seq start with 1 increment by 50;
+
+create table loan_applications (
+    id bigint not null,
+    applicant_name varchar(255),
+    email varchar(255),
+    loan_amount numeric(38, 2),
+    annual_income numeric(38, 2),
+    employment_status varchar(255),
+    credit_score integer,
+    risk_score double precision,
+    risk_model_version varchar(255),
+    status varchar(255),
+    process_instance_id varchar(255),
+    missing_documents varchar(255),
+    rejection_reason varchar(255),
+    agreement_signed boolean not null,
+    funds_disbursed boolean not null,
+    submission_date timestamp(6),
+    last_updated timestamp(6),
+    status_changed_at timestamp(6),
+    primary key (id)
+);
+
+create index idx_loan_app_status_updated on loan_applications (status, last_updated, id);
+create index idx_loan_app_process_instance on loan_applications (process_instance_id);
+create index idx_loan_app_updated on loan_applications (last_updated, id);
+
+create table notification_outbox (
+    id bigint not null,
+    recipient varchar(255),
+    subject varchar(255),
+    body varchar(4000),
+    status varchar(255),
+    attempts integer not null,
+    next_attempt_at timestamp(6),
+    created_at timestamp(6),
+    sent_at timestamp(6),
+    last_error varchar(1000),
+    primary key (id)
+);
+
+create index idx_notification_due on notification_outbox (status, next_attempt_at);
+
+create table payment_ledger (
+    id bigint not null,
+    idempotency_key varchar(255) not null,
+    application_id bigint not null,
+    process_instance_id varchar(255),
+    amount numeric(38, 2),
+    status varchar(255),
+    transaction_id varchar(255),
+    batch_id varchar(255),
+    created_at timestamp(6),
+    settled_at timestamp(6),
+    failure_reason varchar(1000),
+    primary key (id)
+);
+
+create unique index idx_payment_ledger_key on payment_ledger (idempotency_key);
+create index idx_payment_ledger_application on payment_ledger (application_id);
+
+create table status_transition_events (
+    id bigint not null,
+    application_id bigint not null,
+    from_status varchar(255),
+    to_status varchar(255) not null,
+    transitioned_at timestamp(6) not null,
+    dwell_millis bigint,
+    primary key (id)
+);
+
+create index idx_status_transition_app on status_transition_events (application_id, transitioned_at);
+create index idx_status_transition_time on status_transition_events (transitioned_at);
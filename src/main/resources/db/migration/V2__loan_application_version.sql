@@ -0,0 +1,3 @@
+-- Optimistic locking column for LoanApplication; existing rows start at version 0.
+
+alter table loan_applications add column version bigint default 0 not null;
@@ -0,0 +1,119 @@
+package com.intern.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.intern.dto.CompletenessReport;
+import com.intern.entity.LoanApplication;
+
+class ApplicationCompletenessCheckerTest {
+
+    private final ApplicationCompletenessChecker checker = new ApplicationCompletenessChecker();
+
+    @Test
+    void matchesPreviousOutputForEveryCombinationOfMissingFields() {
+        for (int mask = 0; mask < 32; mask++) {
+            for (String blank : new String[] {null, "", "  \t"}) {
+                LoanApplication app = application(mask, blank);
+
+                assertThat(checker.missingMask(app)).as("mask %s", mask).isEqualTo(mask);
+                assertThat(checker.isComplete(app)).isEqualTo(legacyIsComplete(app));
+                assertThat(checker.getMissingDocuments(app)).isEqualTo(legacyMissingDocuments(app));
+            }
+        }
+    }
+
+    @Test
+    void messagesAreSharedPerMask() {
+        LoanApplication first = application(0b10101, null);
+        LoanApplication second = application(0b10101, " ");
+
+        assertThat(checker.getMissingDocuments(first)).isSameAs(checker.getMissingDocuments(second));
+        assertThat(checker.getMissingFields(first))
+                .containsExactly("Applicant name", "Loan amount", "Employment status");
+    }
+
+    @Test
+    void completeApplicationHasNoMissingFields() {
+        LoanApplication app = application(0, null);
+
+        assertThat(checker.isComplete(app)).isTrue();
+        assertThat(checker.getMissingFields(app)).isEmpty();
+        assertThat(checker.getMissingDocuments(app)).isEmpty();
+    }
+
+    @Test
+    void sweepCountsPerField() {
+        List<LoanApplication> apps = List.of(
+                application(0, null),
+                application(0b00001, null),
+                application(0b00011, null),
+                application(0b10000, ""));
+
+        CompletenessReport report = checker.sweep(apps.stream());
+
+        assertThat(report.checked()).isEqualTo(4);
+        assertThat(report.complete()).isEqualTo(1);
+        assertThat(report.incomplete()).isEqualTo(3);
+        assertThat(report.missingByField()).containsExactly(
+                Map.entry("Applicant name", 2L),
+                Map.entry("Email address", 1L),
+                Map.entry("Loan amount", 0L),
+                Map.entry("Annual income", 0L),
+                Map.entry("Employment status", 1L));
+    }
+
+    @Test
+    void sweepOfEmptyStream() {
+        CompletenessReport report = checker.sweep(Stream.empty());
+
+        assertThat(report.checked()).isZero();
+        assertThat(report.missingByField()).allSatisfy((field, count) -> assertThat(count).isZero());
+    }
+
+    // Bit i set means requirement i (applicant name, email, loan amount, annual income, employment status) missing
+    private static LoanApplication application(int missing, String blank) {
+        LoanApplication app = new LoanApplication();
+        app.setApplicantName((missing & 1) != 0 ? blank : "Jane Doe");
+        app.setEmail((missing & 2) != 0 ? blank : "jane@example.com");
+        app.setLoanAmount((missing & 4) != 0 ? null : new BigDecimal("25000"));
+        app.setAnnualIncome((missing & 8) != 0 ? null : new BigDecimal("80000"));
+        app.setEmploymentStatus((missing & 16) != 0 ? blank : "EMPLOYED");
+        return app;
+    }
+
+    private static boolean legacyIsComplete(LoanApplication app) {
+        return app.getApplicantName() != null && !app.getApplicantName().trim().isEmpty() &&
+                app.getEmail() != null && !app.getEmail().trim().isEmpty() &&
+                app.getLoanAmount() != null &&
+                app.getAnnualIncome() != null &&
+                app.getEmploymentStatus() != null && !app.getEmploymentStatus().trim().isEmpty();
+    }
+
+    private static String legacyMissingDocuments(LoanApplication app) {
+        StringBuilder missing = new StringBuilder();
+        if (app.getApplicantName() == null || app.getApplicantName().trim().isEmpty()) {
+            missing.append("Applicant name, ");
+        }
+        if (app.getEmail() == null || app.getEmail().trim().isEmpty()) {
+            missing.append("Email address, ");
+        }
+        if (app.getLoanAmount() == null) {
+            missing.append("Loan amount, ");
+        }
+        if (app.getAnnualIncome() == null) {
+            missing.append("Annual income, ");
+        }
+        if (app.getEmploymentStatus() == null || app.getEmploymentStatus().trim().isEmpty()) {
+            missing.append("Employment status, ");
+        }
+        String result = missing.toString();
+        return result.endsWith(", ") ? result.substring(0, result.length() - 2) : result;
+    }
+}
@@ -0,0 +1,256 @@
+package com.intern.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.exception.NullValueException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.intern.dto.BatchSubmissionResult;
+import com.intern.entity.ApplicationStatus;
+import com.intern.entity.LoanApplication;
+import com.intern.repo.LoanApplicationRepository;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanApplicationServiceTest {
+
+    private static final ValidatorFactory VALIDATORS = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private LoanApplicationRepository repository;
+
+    @Mock
+    private CamundaProcessService camundaProcessService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private LoanApplicationService service;
+
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @AfterAll
+    static void closeValidators() {
+        VALIDATORS.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "validator", VALIDATORS.getValidator());
+        ReflectionTestUtils.setField(service, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(service, "batchChunkSize", 2);
+        ReflectionTestUtils.setField(service, "updateAttempts", 3);
+        ReflectionTestUtils.setField(service, "updateBackoffMillis", 1L);
+
+        when(transactionTemplate.execute(any())).thenAnswer(
+                invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(repository.saveAll(any())).thenAnswer(invocation -> {
+            List<LoanApplication> applications = invocation.getArgument(0);
+            applications.forEach(app -> app.setId(ids.incrementAndGet()));
+            return applications;
+        });
+        when(repository.save(any())).thenAnswer(invocation -> {
+            LoanApplication app = invocation.getArgument(0);
+            if (app.getId() == null) {
+                app.setId(ids.incrementAndGet());
+            }
+            return app;
+        });
+        when(camundaProcessService.startProcess(anyString(), anyString(), anyMap()))
+                .thenAnswer(invocation -> "pi-" + invocation.getArgument(1));
+    }
+
+    @Test
+    void streamResultsKeepLineIndexesAcrossMalformedLines() throws Exception {
+        String ndjson = String.join("\n",
+                json("Ann"),
+                "{not json",
+                json("Ben"),
+                "",
+                "{\"applicantName\":\"\"}",
+                json("Cid"),
+                json("Dee"));
+
+        List<BatchSubmissionResult> results = service.submitApplicationStream(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Blank lines are skipped without consuming an index
+        assertThat(results).extracting(BatchSubmissionResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).extracting(BatchSubmissionResult::success)
+                .containsExactly(true, false, true, false, true, true);
+        assertThat(results.get(1).error()).startsWith("Malformed JSON");
+        assertThat(results.get(3).error()).contains("Applicant name is required");
+    }
+
+    @Test
+    void listResultsAreInInputOrderWhenValidationFailsMidChunk() {
+        List<LoanApplication> applications = List.of(
+                application("Ann"), invalid(), application("Cid"), application("Dee"), invalid());
+
+        List<BatchSubmissionResult> results = service.submitApplications(applications);
+
+        assertThat(results).extracting(BatchSubmissionResult::index).containsExactly(0, 1, 2, 3, 4);
+        assertThat(results).extracting(BatchSubmissionResult::success)
+                .containsExactly(true, false, true, true, false);
+        assertThat(results.get(0).processInstanceId()).isEqualTo("pi-" + results.get(0).applicationId());
+    }
+
+    @Test
+    void chunkUsesTheGivenIndexes() {
+        List<BatchSubmissionResult> results = service.submitChunk(
+                List.of(invalid(), application("Ben")), List.of(7, 9));
+
+        assertThat(results).extracting(BatchSubmissionResult::index).containsExactlyInAnyOrder(7, 9);
+        assertThat(results).filteredOn(BatchSubmissionResult::success)
+                .extracting(BatchSubmissionResult::index).containsExactly(9);
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+        ReflectionTestUtils.setField(service, "batchChunkSize", 0);
+
+        assertThatThrownBy(service::validateChunkSize).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        LocalDateTime lastUpdated = LocalDateTime.of(2024, 5, 17, 9, 30, 15, 123_000_000);
+
+        String cursor = LoanApplicationService.encodeCursor(lastUpdated, 42L);
+        String[] position = LoanApplicationService.decodeCursor(cursor);
+
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(LocalDateTime.parse(position[0])).isEqualTo(lastUpdated);
+        assertThat(Long.valueOf(position[1])).isEqualTo(42L);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        String noSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-05-17T09:30".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> LoanApplicationService.decodeCursor("***"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LoanApplicationService.decodeCursor(noSeparator))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateWithRetryReappliesChangeAfterConflict() {
+        LoanApplication app = application("Ann");
+        app.setId(5L);
+        when(repository.findById(5L)).thenReturn(Optional.of(app));
+        doThrow(new OptimisticLockingFailureException("stale"))
+                .doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+
+        LoanApplication updated = service.updateWithRetry(5L,
+                current -> current.setStatus(ApplicationStatus.LOAN_APPROVED));
+
+        assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.LOAN_APPROVED);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void updateWithRetryGivesUpAfterConfiguredAttempts() {
+        doThrow(new OptimisticLockingFailureException("stale")).when(transactionTemplate).execute(any());
+
+        assertThatThrownBy(() -> service.updateWithRetry(5L, current -> {
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void staleCachedTaskIsResolvedOnceMore() {
+        LoanApplication app = application("Ann");
+        app.setId(5L);
+        app.setProcessInstanceId("pi-5");
+        when(repository.findById(5L)).thenReturn(Optional.of(app));
+        doThrow(new NullValueException("Cannot find task with id t-1"))
+                .doNothing()
+                .when(camundaProcessService).completeActiveTask(eq("pi-5"), eq(LoanTaskKeys.APPROVE_LOAN), anyMap());
+
+        LoanApplication updated = service.updateAndCompleteTask(5L, LoanTaskKeys.APPROVE_LOAN,
+                current -> current.setStatus(ApplicationStatus.LOAN_APPROVED),
+                saved -> LoanVariableCodec.flag(LoanVariableCodec.LOAN_APPROVED, true));
+
+        assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.LOAN_APPROVED);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    void inactiveTaskFailsTheUpdate() {
+        LoanApplication app = application("Ann");
+        app.setId(5L);
+        app.setProcessInstanceId("pi-5");
+        when(repository.findById(5L)).thenReturn(Optional.of(app));
+        doThrow(new IllegalStateException("No active task"))
+                .when(camundaProcessService).completeActiveTask(eq("pi-5"), eq(LoanTaskKeys.APPROVE_LOAN), anyMap());
+
+        assertThatThrownBy(() -> service.updateAndCompleteTask(5L, LoanTaskKeys.APPROVE_LOAN,
+                current -> current.setStatus(ApplicationStatus.LOAN_APPROVED),
+                saved -> LoanVariableCodec.flag(LoanVariableCodec.LOAN_APPROVED, true)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    private static String json(String name) {
+        return "{\"applicantName\":\"" + name + "\",\"email\":\"" + name.toLowerCase() + "@example.com\","
+                + "\"loanAmount\":10000,\"annualIncome\":60000,\"employmentStatus\":\"EMPLOYED\"}";
+    }
+
+    private static LoanApplication application(String name) {
+        LoanApplication app = new LoanApplication();
+        app.setApplicantName(name);
+        app.setEmail(name.toLowerCase() + "@example.com");
+        app.setLoanAmount(new BigDecimal("10000"));
+        app.setAnnualIncome(new BigDecimal("60000"));
+        app.setEmploymentStatus("EMPLOYED");
+        return app;
+    }
+
+    private static LoanApplication invalid() {
+        LoanApplication app = application("x");
+        app.setApplicantName(" ");
+        return app;
+    }
+}
@@ -0,0 +1,40 @@
+package com.intern.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.type.ValueType;
+import org.junit.jupiter.api.Test;
+
+class LoanVariableCodecTest {
+
+    @Test
+    void decodesNumbers() {
+        assertThat(LoanVariableCodec.decodeApplicationId(42L)).isEqualTo(42L);
+        assertThat(LoanVariableCodec.decodeApplicationId(42)).isEqualTo(42L);
+    }
+
+    @Test
+    void decodesNumericStrings() {
+        assertThat(LoanVariableCodec.decodeApplicationId("42")).isEqualTo(42L);
+        assertThat(LoanVariableCodec.decodeApplicationId(" 42 ")).isEqualTo(42L);
+    }
+
+    @Test
+    void rejectsEverythingElse() {
+        assertThat(LoanVariableCodec.decodeApplicationId(null)).isNull();
+        assertThat(LoanVariableCodec.decodeApplicationId("")).isNull();
+        assertThat(LoanVariableCodec.decodeApplicationId("   ")).isNull();
+        assertThat(LoanVariableCodec.decodeApplicationId("order-42")).isNull();
+        assertThat(LoanVariableCodec.decodeApplicationId("99999999999999999999")).isNull();
+        assertThat(LoanVariableCodec.decodeApplicationId(Boolean.TRUE)).isNull();
+    }
+
+    @Test
+    void startVariablesHoldOnlyTypedLongId() {
+        VariableMap variables = LoanVariableCodec.start(7L);
+
+        assertThat(variables).containsOnlyKeys(LoanVariableCodec.APPLICATION_ID);
+        assertThat(variables.getValueTyped(LoanVariableCodec.APPLICATION_ID).getType()).isEqualTo(ValueType.LONG);
+    }
+}